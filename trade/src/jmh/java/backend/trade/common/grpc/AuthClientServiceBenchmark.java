@@ -0,0 +1,73 @@
+package backend.trade.common.grpc;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AuthClientService.verifyToken 의 클라이언트 쪽 비용 (in-process 인증 서버, 네트워크 제외)
+ * - cache=true : L1 캐시 적중 (요청 대부분의 경로)
+ * - cache=false : 매번 VerifyToken 호출 (call guard, metadata, stub 생성 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AuthClientServiceBenchmark {
+
+    private static final int USERS = 1024;
+
+    @Param({"true", "false"})
+    public boolean cache;
+
+    private Server server;
+    private ManagedChannel channel;
+    private AuthClientService authClientService;
+    private String[] tokens;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        String serverName = "auth-benchmark";
+        server = new InProcessAuthService().start(serverName);
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+
+        AuthCallGuard callGuard = new AuthCallGuard(new SimpleMeterRegistry(), true,
+                50, 20, 0.5, 5000, 5, 20, 2, 200, 200, 0.9);
+        authClientService = new AuthClientService(new AuthChannelPool(List.of(channel)), callGuard,
+                1000, false, 10, false, false, 64, 500, 1, 1,
+                new TokenVerificationCache(cache, USERS * 2, 1000, 300, 30),
+                new RedisTokenCache(null, false, 5000),
+                new LocalTokenVerifier(false, "userId", 5));
+
+        tokens = new String[USERS];
+        for (int i = 0; i < USERS; i++) {
+            tokens[i] = InProcessAuthService.validToken(i);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        authClientService.shutdown();
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Benchmark
+    public boolean verifyToken() {
+        return authClientService.verifyToken(tokens[index++ & (USERS - 1)]);
+    }
+}
@@ -0,0 +1,57 @@
+package backend.trade.order.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 번호 발급 (기존 generateOrderNumber 를 대체한 SnowflakeOrderIdGenerator)
+ * - nextId : 한 건씩, 단일 스레드 / 4 스레드 경합
+ * - nextIds : 대량 등록에서 쓰는 구간 예약 (op 당 한 건 기준)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderIdGeneratorBenchmark {
+
+    private static final int BULK_SIZE = 500;
+
+    private SnowflakeOrderIdGenerator generator;
+
+    @Setup
+    public void setUp() {
+        // 대기 없이 측정하도록 시계보다 앞서 나가는 것을 넉넉히 허용
+        generator = new SnowflakeOrderIdGenerator(1, 60_000, 120_000);
+    }
+
+    @Benchmark
+    public String nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String nextIdContended() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public List<String> nextIds() {
+        return generator.nextIds(BULK_SIZE);
+    }
+
+    @Benchmark
+    public long nextValue() {
+        return generator.nextValue();
+    }
+}
@@ -0,0 +1,84 @@
+package backend.trade.order.service;
+
+import backend.trade.order.dto.OrderPageDto;
+import backend.trade.order.dto.OrderPageRequestDto;
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.OrderStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrderService 에서 DB 와 무관한 요청당 처리
+ * - 상태 전환 조건 조회 (기존 validateOrderStatusTransition 을 대체한 OrderStatusTransitions)
+ * - 목록 링크 생성 (buildPaginationLinks / buildUrl), cursor encode / decode
+ * - 등록 시 수량 반올림
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderServiceBenchmark {
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderService orderService;
+    private OrderPageRequestDto firstPageRequest;
+    private OrderPageRequestDto filteredRequest;
+    private OrderPageDto page;
+    private String cursor;
+    private double[] quantities;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        // 링크 생성은 repository 등을 사용하지 않음
+        orderService = new OrderService(null, null, null, null, null, null);
+
+        cursor = new OrderCursor(LocalDateTime.of(2024, 5, 1, 12, 30), "ORDER-20240501-0000000123456789012").encode();
+        page = new OrderPageDto(List.of(), cursor);
+        firstPageRequest = new OrderPageRequestDto(null, null, null, null, null);
+        filteredRequest = new OrderPageRequestDto(Invoice.PURCHASE, "2024-01-01T00:00:00", "2024-06-01T00:00:00", 50, cursor);
+
+        quantities = new double[1024];
+        for (int i = 0; i < quantities.length; i++) {
+            quantities[i] = 0.001 + i * 1.2345;
+        }
+    }
+
+    @Benchmark
+    public void transitionForTarget(Blackhole blackhole) {
+        for (OrderStatus status : STATUSES) {
+            blackhole.consume(OrderStatusTransitions.forTarget(status));
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> paginationLinksFirstPage() {
+        return orderService.buildPaginationLinks(page, firstPageRequest);
+    }
+
+    @Benchmark
+    public Map<String, Object> paginationLinksFiltered() {
+        return orderService.buildPaginationLinks(page, filteredRequest);
+    }
+
+    @Benchmark
+    public OrderCursor decodeCursor() {
+        return OrderCursor.decode(cursor);
+    }
+
+    @Benchmark
+    public double roundQuantity() {
+        return OrderService.roundQuantity(quantities[index++ & (quantities.length - 1)]);
+    }
+}
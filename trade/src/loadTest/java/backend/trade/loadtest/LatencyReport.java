@@ -0,0 +1,88 @@
+package backend.trade.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * endpoint 별 지연 시간(HdrHistogram, micros)과 실패 수
+ */
+class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long latencyNanos, boolean success) {
+        long micros = Math.min(HIGHEST_TRACKABLE_MICROS, Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3))
+                .recordValue(micros);
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    void print(PrintStream out, double elapsedSeconds) {
+        out.printf("%-22s %10s %8s %10s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        long total = 0;
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            Histogram histogram = entry.getValue();
+            long count = histogram.getTotalCount();
+            LongAdder failed = errors.get(entry.getKey());
+            total += count;
+            out.printf("%-22s %,10d %,8d %,10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), count, failed == null ? 0 : failed.sum(), count / elapsedSeconds,
+                    millis(histogram.getValueAtPercentile(50)),
+                    millis(histogram.getValueAtPercentile(99)),
+                    millis(histogram.getValueAtPercentile(99.9)),
+                    millis(histogram.getMaxValue()));
+        }
+        out.printf("%-22s %,10d %8s %,10.1f%n", "total", total, "", total / elapsedSeconds);
+    }
+
+    /**
+     * 같은 부하로 측정한 두 결과를 endpoint 별로 나란히 출력 (처리량, p50, p99)
+     */
+    static void printSideBySide(PrintStream out, double elapsedSeconds,
+                                String leftName, LatencyReport left, String rightName, LatencyReport right) {
+        out.printf("%-22s %12s %12s %10s %10s %10s %10s%n", "endpoint",
+                leftName + " req/s", rightName + " req/s",
+                leftName.charAt(0) + " p50(ms)", rightName.charAt(0) + " p50(ms)",
+                leftName.charAt(0) + " p99(ms)", rightName.charAt(0) + " p99(ms)");
+        TreeMap<String, Histogram> endpoints = new TreeMap<>(left.histograms);
+        right.histograms.forEach(endpoints::putIfAbsent);
+        for (String endpoint : endpoints.keySet()) {
+            Histogram l = left.histograms.get(endpoint);
+            Histogram r = right.histograms.get(endpoint);
+            out.printf("%-22s %,12.1f %,12.1f %10.2f %10.2f %10.2f %10.2f%n", endpoint,
+                    throughput(l, elapsedSeconds), throughput(r, elapsedSeconds),
+                    percentileMillis(l, 50), percentileMillis(r, 50),
+                    percentileMillis(l, 99), percentileMillis(r, 99));
+        }
+        out.printf("%-22s %,12.1f %,12.1f%n", "total", left.totalCount() / elapsedSeconds, right.totalCount() / elapsedSeconds);
+    }
+
+    private long totalCount() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    private static double throughput(Histogram histogram, double elapsedSeconds) {
+        return histogram == null ? 0 : histogram.getTotalCount() / elapsedSeconds;
+    }
+
+    private static double percentileMillis(Histogram histogram, double percentile) {
+        return histogram == null ? 0 : millis(histogram.getValueAtPercentile(percentile));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
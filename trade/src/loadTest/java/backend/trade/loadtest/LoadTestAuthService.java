@@ -0,0 +1,88 @@
+package backend.trade.loadtest;
+
+import auth.Auth;
+import backend.trade.common.grpc.InProcessAuthService;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 부하 테스트용 인증 서버 대역 ("valid-{userId}" 토큰만 유효)
+ * 같은 JVM 의 loopback 포트에서 실행 (trade 의 AuthChannelPool 은 Netty 채널을 사용하므로)
+ * - latency : 응답 지연, 서버 스레드를 막지 않고 예약 실행
+ * - error-rate : 이 비율만큼 UNAVAILABLE 로 실패 (circuit breaker, 재시도 경로 확인용)
+ */
+public class LoadTestAuthService extends InProcessAuthService {
+
+    private final long latencyMillis;
+    private final double errorRate;
+    private final ScheduledExecutorService responder = Executors.newScheduledThreadPool(4, runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-auth-responder");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong injectedErrors = new AtomicLong();
+    private Server server;
+
+    public LoadTestAuthService(long latencyMillis, double errorRate) {
+        this.latencyMillis = latencyMillis;
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * @return 할당된 포트
+     */
+    public int startOnLoopback() throws IOException {
+        server = NettyServerBuilder.forAddress(new InetSocketAddress("127.0.0.1", 0))
+                .addService(this)
+                .build()
+                .start();
+        return server.getPort();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.shutdownNow();
+        }
+        responder.shutdownNow();
+    }
+
+    public long getInjectedErrors() {
+        return injectedErrors.get();
+    }
+
+    @Override
+    public void verifyToken(Auth.TokenRequest request, StreamObserver<Auth.TokenResponse> responseObserver) {
+        respond(responseObserver, () -> super.verifyToken(request, responseObserver));
+    }
+
+    @Override
+    public void verifyTokens(Auth.TokenBatchRequest request, StreamObserver<Auth.TokenBatchResponse> responseObserver) {
+        respond(responseObserver, () -> super.verifyTokens(request, responseObserver));
+    }
+
+    private void respond(StreamObserver<?> responseObserver, Runnable response) {
+        Runnable call = () -> {
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                injectedErrors.incrementAndGet();
+                responseObserver.onError(Status.UNAVAILABLE.withDescription("injected by load test").asRuntimeException());
+                return;
+            }
+            response.run();
+        };
+        if (latencyMillis <= 0) {
+            call.run();
+        } else {
+            responder.schedule(call, latencyMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+}
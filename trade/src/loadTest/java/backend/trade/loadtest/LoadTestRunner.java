@@ -0,0 +1,202 @@
+package backend.trade.loadtest;
+
+import backend.trade.TradeApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.ManagedChannel;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+import trade.TradeServiceGrpc;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 API 부하 테스트 하네스
+ * trade 서버(loadtest 프로필, H2 + embedded Redis)와 인증 서버 대역을 같은 JVM 에서 띄운 뒤
+ * 사용자마다 LoadWorker 하나로 REST / gRPC 요청을 섞어 보내고 endpoint 별 지연 분포를 출력
+ *
+ * ./gradlew loadTest -Dloadtest.duration-seconds=60 -Dloadtest.concurrency=64 -Dloadtest.auth.latency-ms=5
+ * - loadtest.duration-seconds : 측정 시간 (기본 60)
+ * - loadtest.warmup-seconds : 측정 전 warm up 시간 (기본 10, 결과에서 제외)
+ * - loadtest.concurrency : 동시 사용자 수 (기본 64)
+ * - loadtest.auth.latency-ms / loadtest.auth.error-rate : 인증 서버 대역 응답 지연, 실패 비율
+ * - loadtest.grpc : false 면 REST 만 (기본 true)
+ * - loadtest.mix : operation 가중치 (기본 register=30,update=20,list=40,delete=10)
+ * - loadtest.redis.embedded : false 면 spring.data.redis.* 의 외부 Redis 사용 (기본 true)
+ * - loadtest.threads : 서버 요청 처리 스레드 platform / virtual / compare (기본 platform)
+ *   compare 는 spring.threads.virtual.enabled=false, true 로 서버를 한 번씩 띄워 같은 부하를 보내고 결과를 나란히 출력
+ *   (virtual 은 JDK 21 이상 : ./gradlew -PjavaToolchain=21 loadTest -Dloadtest.threads=compare)
+ * 그 외 trade.* / grpc.* / spring.* 시스템 속성은 그대로 서버 설정으로 전달됨
+ */
+public class LoadTestRunner {
+
+    private static final String IN_PROCESS_NAME = "trade-loadtest";
+
+    public static void main(String[] args) throws Exception {
+        long durationSeconds = Long.getLong("loadtest.duration-seconds", 60);
+        long warmupSeconds = Long.getLong("loadtest.warmup-seconds", 10);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        long authLatencyMs = Long.getLong("loadtest.auth.latency-ms", 0);
+        double authErrorRate = Double.parseDouble(System.getProperty("loadtest.auth.error-rate", "0"));
+        boolean useGrpc = Boolean.parseBoolean(System.getProperty("loadtest.grpc", "true"));
+        LoadWorker.Operation[] mix = parseMix(System.getProperty("loadtest.mix", "register=30,update=20,list=40,delete=10"));
+        boolean embeddedRedis = Boolean.parseBoolean(System.getProperty("loadtest.redis.embedded", "true"));
+        List<ThreadMode> modes = parseThreadModes(System.getProperty("loadtest.threads", "platform"));
+
+        LoadTestAuthService authService = new LoadTestAuthService(authLatencyMs, authErrorRate);
+        int authPort = authService.startOnLoopback();
+
+        RedisServer redis = null;
+        List<String> serverArgs = new ArrayList<>(List.of(args));
+        serverArgs.add("--server.port=0");
+        serverArgs.add("--grpc.server.in-process-name=" + IN_PROCESS_NAME);
+        serverArgs.add("--grpc.auth.channel.addresses=127.0.0.1:" + authPort);
+        try {
+            if (embeddedRedis) {
+                int redisPort = freePort();
+                redis = new RedisServer(redisPort);
+                redis.start();
+                serverArgs.add("--spring.data.redis.host=127.0.0.1");
+                serverArgs.add("--spring.data.redis.port=" + redisPort);
+            }
+
+            System.out.printf("load test : %d users, warm up %ds, measure %ds, auth latency %dms, auth error rate %.3f, grpc %s, threads %s%n",
+                    concurrency, warmupSeconds, durationSeconds, authLatencyMs, authErrorRate, useGrpc, modes);
+
+            Map<ThreadMode, LatencyReport> reports = new LinkedHashMap<>();
+            for (ThreadMode mode : modes) {
+                long injectedErrors = authService.getInjectedErrors();
+                List<String> runArgs = new ArrayList<>(serverArgs);
+                runArgs.add("--spring.threads.virtual.enabled=" + (mode == ThreadMode.VIRTUAL));
+
+                LatencyReport report = run(runArgs, concurrency, warmupSeconds, durationSeconds, useGrpc, mix);
+                reports.put(mode, report);
+
+                System.out.printf("%n[%s threads]%n", mode.name().toLowerCase());
+                report.print(System.out, durationSeconds);
+                System.out.printf("auth errors injected : %,d%n", authService.getInjectedErrors() - injectedErrors);
+            }
+
+            if (reports.size() == 2) {
+                System.out.println();
+                LatencyReport.printSideBySide(System.out, durationSeconds,
+                        "platform", reports.get(ThreadMode.PLATFORM), "virtual", reports.get(ThreadMode.VIRTUAL));
+            }
+        } finally {
+            if (redis != null) {
+                redis.stop();
+            }
+            authService.stop();
+        }
+    }
+
+    /**
+     * 서버를 띄워서 한 번 측정하고 종료
+     * 다음 실행이 앞 실행의 캐시를 이어받지 않도록 종료 전에 Redis 를 비움
+     */
+    private static LatencyReport run(List<String> serverArgs, int concurrency, long warmupSeconds, long durationSeconds,
+                                     boolean useGrpc, LoadWorker.Operation[] mix) throws Exception {
+        ConfigurableApplicationContext context = null;
+        ManagedChannel channel = null;
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            context = new SpringApplicationBuilder(TradeApplication.class)
+                    .profiles("loadtest")
+                    .run(serverArgs.toArray(String[]::new));
+            int httpPort = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            URI baseUri = URI.create("http://127.0.0.1:" + httpPort);
+
+            HttpClient http = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            TradeServiceGrpc.TradeServiceBlockingStub grpc = null;
+            if (useGrpc) {
+                channel = InProcessChannelBuilder.forName(IN_PROCESS_NAME).build();
+                grpc = TradeServiceGrpc.newBlockingStub(channel);
+            }
+
+            LatencyReport report = new LatencyReport();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            long startedAt = System.nanoTime();
+            long warmupEndsAt = startedAt + TimeUnit.SECONDS.toNanos(warmupSeconds);
+            long endsAt = warmupEndsAt + TimeUnit.SECONDS.toNanos(durationSeconds);
+            for (int i = 0; i < concurrency; i++) {
+                workers.execute(new LoadWorker(i + 1, http, baseUri, objectMapper, grpc, mix, report, warmupEndsAt, endsAt));
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(warmupSeconds + durationSeconds + 60, TimeUnit.SECONDS)) {
+                System.out.println("some workers did not finish in time");
+            }
+
+            StringRedisTemplate redisTemplate = context.getBean(StringRedisTemplate.class);
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                connection.serverCommands().flushDb();
+                return null;
+            });
+            return report;
+        } finally {
+            workers.shutdownNow();
+            if (channel != null) {
+                channel.shutdownNow();
+            }
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static List<ThreadMode> parseThreadModes(String threads) {
+        List<ThreadMode> modes = "compare".equalsIgnoreCase(threads)
+                ? List.of(ThreadMode.PLATFORM, ThreadMode.VIRTUAL)
+                : List.of(ThreadMode.valueOf(threads.trim().toUpperCase()));
+        // JDK 21 미만에서는 spring.threads.virtual.enabled 가 조용히 무시되어 같은 결과를 두 번 재게 됨
+        if (modes.contains(ThreadMode.VIRTUAL) && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("loadtest.threads=" + threads + " needs JDK 21 (-PjavaToolchain=21)");
+        }
+        return modes;
+    }
+
+    /**
+     * "register=30,update=20" -> 가중치만큼 반복된 배열
+     */
+    private static LoadWorker.Operation[] parseMix(String mix) {
+        List<LoadWorker.Operation> operations = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            LoadWorker.Operation operation = LoadWorker.Operation.valueOf(pair[0].trim().toUpperCase());
+            int weight = Integer.parseInt(pair[1].trim());
+            for (int i = 0; i < weight; i++) {
+                operations.add(operation);
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no operations : " + mix);
+        }
+        return operations.toArray(LoadWorker.Operation[]::new);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private enum ThreadMode {
+        PLATFORM, VIRTUAL
+    }
+}
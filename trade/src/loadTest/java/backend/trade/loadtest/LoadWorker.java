@@ -0,0 +1,227 @@
+package backend.trade.loadtest;
+
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
+import trade.Trade;
+import trade.TradeServiceGrpc;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 한 명을 흉내 내는 closed-loop 부하 생성기
+ * 응답을 받으면 바로 다음 요청 (register / update / list / delete 를 가중치대로 선택, gRPC 가 있으면 REST 와 반씩)
+ * 자신이 등록한 주문만 상태를 바꾸거나 삭제하므로 요청 대부분이 성공 경로
+ */
+class LoadWorker implements Runnable {
+
+    enum Operation {
+        REGISTER, UPDATE, LIST, DELETE
+    }
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_TRACKED_ORDERS = 200;
+
+    private final long userId;
+    private final String authorization;
+    private final HttpClient http;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final TradeServiceGrpc.TradeServiceBlockingStub grpc;
+    private final Operation[] mix;
+    private final LatencyReport report;
+    private final long warmupEndsAt;
+    private final long endsAt;
+
+    private final Random random;
+    private final List<TrackedOrder> orders = new ArrayList<>();
+
+    /**
+     * @param grpc null 이면 REST 만 사용
+     * @param mix 가중치만큼 반복된 operation 배열
+     * @param warmupEndsAt 이 시각(nanoTime) 이전에 시작한 요청은 기록하지 않음
+     * @param endsAt 이 시각(nanoTime) 이후에는 새 요청을 보내지 않음
+     */
+    LoadWorker(long userId, HttpClient http, URI baseUri, ObjectMapper objectMapper,
+               TradeServiceGrpc.TradeServiceBlockingStub grpc, Operation[] mix, LatencyReport report,
+               long warmupEndsAt, long endsAt) {
+        this.userId = userId;
+        this.authorization = "Bearer " + LoadTestAuthService.validToken(userId);
+        this.http = http;
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.grpc = grpc == null ? null : grpc.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers(authorization)));
+        this.mix = mix;
+        this.report = report;
+        this.warmupEndsAt = warmupEndsAt;
+        this.endsAt = endsAt;
+        this.random = new Random(userId);
+    }
+
+    @Override
+    public void run() {
+        while (System.nanoTime() < endsAt) {
+            Operation operation = mix[random.nextInt(mix.length)];
+            TrackedOrder target = null;
+            if (operation == Operation.UPDATE || operation == Operation.DELETE) {
+                if (orders.isEmpty()) {
+                    operation = Operation.REGISTER;
+                } else {
+                    target = orders.get(random.nextInt(orders.size()));
+                    // 더 바꿀 상태가 없는 주문은 삭제
+                    if (operation == Operation.UPDATE && nextStatus(target) == null) {
+                        operation = Operation.DELETE;
+                    }
+                }
+            }
+            if (operation == Operation.REGISTER && orders.size() >= MAX_TRACKED_ORDERS) {
+                operation = Operation.LIST;
+            }
+
+            boolean useGrpc = grpc != null && random.nextBoolean();
+            long startedAt = System.nanoTime();
+            boolean success;
+            try {
+                success = useGrpc ? executeGrpc(operation, target) : executeRest(operation, target);
+            } catch (Exception e) {
+                success = false;
+            }
+            long latency = System.nanoTime() - startedAt;
+
+            if (startedAt >= warmupEndsAt) {
+                report.record((useGrpc ? "grpc " : "rest ") + operation.name().toLowerCase(), latency, success);
+            }
+        }
+    }
+
+    private boolean executeRest(Operation operation, TrackedOrder target) throws Exception {
+        switch (operation) {
+            case REGISTER -> {
+                Invoice invoice = random.nextBoolean() ? Invoice.PURCHASE : Invoice.SELL;
+                HttpResponse<String> response = send("POST", "/api/order/register", Map.of(
+                        "userId", userId,
+                        "invoice", invoice,
+                        "itemType", random.nextBoolean() ? ItemType.GOLD_999 : ItemType.GOLD_9999,
+                        "quantity", 1 + random.nextInt(10_000) / 100.0,
+                        "shippingAddress", "Seoul " + userId));
+                if (response.statusCode() != 200) {
+                    return false;
+                }
+                String orderId = objectMapper.readTree(response.body()).path("id").asText();
+                orders.add(new TrackedOrder(orderId, invoice, OrderStatus.ORDER_COMPLETED));
+                return true;
+            }
+            case UPDATE -> {
+                OrderStatus next = nextStatus(target);
+                HttpResponse<String> response = send("PATCH", "/api/order/update", Map.of(
+                        "userId", userId, "orderId", target.id, "newStatus", next));
+                return updated(target, next, response.statusCode() == 200);
+            }
+            case LIST -> {
+                return send("GET", "/api/order/list?limit=20", null).statusCode() == 200;
+            }
+            case DELETE -> {
+                HttpResponse<String> response = send("DELETE", "/api/order/delete", Map.of(
+                        "userId", userId, "orderId", target.id));
+                orders.remove(target);
+                return response.statusCode() == 200;
+            }
+            default -> throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private boolean executeGrpc(Operation operation, TrackedOrder target) {
+        TradeServiceGrpc.TradeServiceBlockingStub stub = grpc.withDeadlineAfter(REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        switch (operation) {
+            case REGISTER -> {
+                Invoice invoice = random.nextBoolean() ? Invoice.PURCHASE : Invoice.SELL;
+                Trade.OrderResponse response = stub.createOrder(Trade.CreateOrderRequest.newBuilder()
+                        .setUserId(userId)
+                        .setInvoice(Trade.Invoice.valueOf(invoice.name()))
+                        .setItemType(random.nextBoolean() ? Trade.ItemType.GOLD_999 : Trade.ItemType.GOLD_9999)
+                        .setQuantity(1 + random.nextInt(10_000) / 100.0)
+                        .setShippingAddress("Seoul " + userId)
+                        .build());
+                orders.add(new TrackedOrder(response.getOrder().getId(), invoice, OrderStatus.ORDER_COMPLETED));
+                return true;
+            }
+            case UPDATE -> {
+                OrderStatus next = nextStatus(target);
+                try {
+                    stub.updateOrderStatus(Trade.UpdateOrderStatusRequest.newBuilder()
+                            .setUserId(userId)
+                            .setOrderId(target.id)
+                            .setNewStatus(Trade.OrderStatus.valueOf(next.name()))
+                            .build());
+                } catch (RuntimeException e) {
+                    return updated(target, next, false);
+                }
+                return updated(target, next, true);
+            }
+            case LIST -> {
+                stub.listOrders(Trade.ListOrdersRequest.newBuilder().setUserId(userId).setLimit(20).build());
+                return true;
+            }
+            case DELETE -> {
+                orders.remove(target);
+                stub.deleteOrder(Trade.DeleteOrderRequest.newBuilder().setUserId(userId).setOrderId(target.id).build());
+                return true;
+            }
+            default -> throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private HttpResponse<String> send(String method, String path, Map<String, Object> body) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", authorization);
+        if (body == null) {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        }
+        return http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * 성공하면 추적 중인 상태를 갱신, 실패하면 상태를 알 수 없으므로 추적에서 제외
+     */
+    private boolean updated(TrackedOrder target, OrderStatus next, boolean success) {
+        orders.remove(target);
+        if (success) {
+            orders.add(new TrackedOrder(target.id, target.invoice, next));
+        }
+        return success;
+    }
+
+    private static OrderStatus nextStatus(TrackedOrder order) {
+        return switch (order.status) {
+            case ORDER_COMPLETED -> order.invoice == Invoice.PURCHASE ? OrderStatus.PAYMENT_COMPLETED : OrderStatus.PAYMENT_RECEIVED;
+            case PAYMENT_COMPLETED -> OrderStatus.SHIPPED;
+            case PAYMENT_RECEIVED -> OrderStatus.RECEIVED;
+            default -> null;
+        };
+    }
+
+    private static Metadata headers(String authorization) {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), authorization);
+        return headers;
+    }
+
+    private record TrackedOrder(String id, Invoice invoice, OrderStatus status) {
+    }
+}
@@ -1,32 +1,23 @@
 package backend.trade.common.config;
 
-import auth.AuthServiceGrpc;
-import io.grpc.CallCredentials;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
-import io.grpc.stub.AbstractStub;
-import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
+import backend.trade.common.grpc.AuthChannelPool;
+import backend.trade.common.grpc.AuthChannelProperties;
+import backend.trade.common.grpc.GrpcClientMetricsInterceptor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+
 @Configuration
-@RequiredArgsConstructor
+@EnableConfigurationProperties(AuthChannelProperties.class)
 public class GrpcClientConfig {
 
-    private final CallCredentials grpcCallCredentials;
-
-    @Bean
-    public ManagedChannel authServiceChannel() {
-        return ManagedChannelBuilder.forAddress("localhost", 50051)
-                .usePlaintext()
-                .build();
-    }
-
-    @Bean
-    public AuthServiceGrpc.AuthServiceBlockingStub authServiceBlockingStub(ManagedChannel authServiceChannel) {
-        return AuthServiceGrpc.newBlockingStub(authServiceChannel)
-                .withCallCredentials(grpcCallCredentials);
+    @Bean(destroyMethod = "close")
+    public AuthChannelPool authChannelPool(AuthChannelProperties authChannelProperties,
+                                           GrpcClientMetricsInterceptor grpcClientMetricsInterceptor) {
+        // 채널 단위 interceptor 라 이 풀에서 만든 모든 stub 에 적용됨
+        return new AuthChannelPool(authChannelProperties, List.of(grpcClientMetricsInterceptor));
     }
 
 }
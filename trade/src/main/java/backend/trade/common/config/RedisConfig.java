@@ -0,0 +1,27 @@
+package backend.trade.common.config;
+
+import backend.trade.common.grpc.RedisTokenCache;
+import backend.trade.common.grpc.TokenRevocationListener;
+import backend.trade.common.grpc.TokenVerificationCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@ConditionalOnProperty(name = "grpc.auth.cache.redis.enabled", havingValue = "true")
+public class RedisConfig {
+
+    @Bean
+    public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                          TokenVerificationCache tokenCache,
+                                                                          RedisTokenCache redisTokenCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(new TokenRevocationListener(tokenCache, redisTokenCache),
+                new ChannelTopic(RedisTokenCache.REVOCATION_CHANNEL));
+        return container;
+    }
+}
@@ -1,8 +1,11 @@
 package backend.trade.common.config;
 
-import io.grpc.CallCredentials;
-import io.grpc.Metadata;
-import jakarta.servlet.http.HttpServletRequest;
+import backend.trade.common.grpc.AuthClientService;
+import backend.trade.common.security.TokenAuthenticationEntryPoint;
+import backend.trade.common.security.TokenAuthenticationFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -10,41 +13,14 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.web.configurers.HttpBasicConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
-
-import java.util.concurrent.Executor;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 @Configuration
+@RequiredArgsConstructor
 public class SecurityConfig {
 
-    @Bean
-    public CallCredentials grpcCallCredentials() {
-        return new CallCredentials() {
-            @Override
-            public void applyRequestMetadata(RequestInfo requestInfo, Executor executor, MetadataApplier metadataApplier) {
-                // 현재 스레드의 HttpServletRequest 를 가져옴
-                HttpServletRequest request = ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
-                String authorizationHeader = request.getHeader("Authorization");
-
-                // Bearer 토큰 추출
-                String token = null;
-                if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-                    token = authorizationHeader.substring(7);
-                }
-
-                Metadata headers = new Metadata();
-                Metadata.Key<String> authHeaderKey = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
-                headers.put(authHeaderKey, "Bearer " + token);
-
-                // gRPC 메타데이터에 추가
-                metadataApplier.apply(headers);
-            }
-            @Override
-            public void thisUsesUnstableApi() {
-            }
-        };
-    }
+    private final AuthClientService authClientService;
+    private final ObjectMapper objectMapper;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -54,9 +30,16 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 .authorizeHttpRequests((requests) -> requests
-                        .requestMatchers("/api/**", "/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                        // SSE 등 비동기 응답의 재 dispatch 는 최초 요청에서 이미 인증됨 (STATELESS 라 context 가 남지 않음)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/error", "/actuator/health/**", "/actuator/prometheus").permitAll()
                         .anyRequest().authenticated()
-                );
+                )
+
+                // 요청당 한 번만 인증 서버에 토큰 검증 후 SecurityContext 에 userId 저장
+                .addFilterBefore(new TokenAuthenticationFilter(authClientService), UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new TokenAuthenticationEntryPoint(objectMapper)));
 
         return http.build();
     }
@@ -0,0 +1,25 @@
+package backend.trade.common.config;
+
+import net.devh.boot.grpc.server.serverfactory.GrpcServerConfigurer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * spring.threads.virtual.enabled=true (JDK 21 이상) 일 때만 적용
+ * Tomcat 요청 처리, @Scheduled, @Async 는 Spring Boot 가 virtual thread 로 바꾸고,
+ * 여기서는 gRPC 서버(TradeGrpcService) 호출도 virtual thread 에서 실행되도록 설정
+ * -> 인증 서버 blocking stub 호출, JPA/JDBC 대기 동안 platform thread 를 점유하지 않음 (동시 처리 수는 DB 연결 수로 제한)
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public GrpcServerConfigurer virtualThreadGrpcServerConfigurer() {
+        VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("grpc-server-");
+        return serverBuilder -> serverBuilder.executor(executor);
+    }
+}
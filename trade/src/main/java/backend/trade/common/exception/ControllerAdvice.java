@@ -1,7 +1,10 @@
 package backend.trade.common.exception;
 
+import backend.trade.common.ratelimit.RateLimitExceededException;
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -74,6 +77,24 @@ public class ControllerAdvice {
                 HttpStatus.valueOf(error.getStatusCode()));
     }
 
+    // @Version 충돌 (엔티티를 읽은 뒤 다른 요청이 먼저 변경)
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.warn("Optimistic locking failure :: {}", e.getMessage());
+        CustomError error = CustomError.CONCURRENT_MODIFICATION;
+        return new ResponseEntity<>(ErrorDto.createErrorDto(error),
+                HttpStatus.valueOf(error.getStatusCode()));
+    }
+
+    // 요청 수 제한 초과 (RateLimitInterceptor), 다시 시도할 수 있는 시간을 Retry-After 로 전달
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<?> handleRateLimitExceeded(RateLimitExceededException e) {
+        CustomError error = e.getCustomError();
+        return ResponseEntity.status(error.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ErrorDto.createErrorDto(error));
+    }
+
     @ExceptionHandler(CustomException.class)
     public ResponseEntity<?> customException(CustomException e) {
         return new ResponseEntity<>(ErrorDto.createErrorDto(e.getCustomError()),
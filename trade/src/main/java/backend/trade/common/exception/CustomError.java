@@ -7,6 +7,7 @@ public enum CustomError {
     // 인증
     INVALID_ACCESS_TOKEN(1000, "유효하지 않은 액세스 토큰입니다.", HttpStatus.BAD_REQUEST.value()),
     USER_NOT_AUTHENTICATED(1001, "유효하지 않은 사용자입니다.", HttpStatus.BAD_REQUEST.value()),
+    AUTH_UNAVAILABLE(1002, "인증 서버를 일시적으로 사용할 수 없습니다. 잠시 후 다시 시도해주세요.", HttpStatus.SERVICE_UNAVAILABLE.value()),
 
     // 주문
     ORDER_NOT_FOUND(2001, "해당 주문은 존재하지 않습니다.", HttpStatus.NOT_FOUND.value()),
@@ -14,12 +15,18 @@ public enum CustomError {
     STATUS_NOT_FOR_SELL(2003, "판매 타입에 해당하지 않는 주문 상태입니다.", HttpStatus.BAD_REQUEST.value()),
     STATUS_NOT_FOR_PURCHASE(2004, "구매 타입에 해당하지 않는 주문 상태입니다.", HttpStatus.BAD_REQUEST.value()),
     FORBIDDEN_ORDER(2005, "해당 주문에 대한 권한이 없습니다.", HttpStatus.FORBIDDEN.value()),
+    TOO_MANY_WATCHERS(2006, "동시에 구독할 수 있는 주문 상태 알림 수를 초과했습니다.", HttpStatus.TOO_MANY_REQUESTS.value()),
+    INVALID_CURSOR(2007, "잘못된 페이지 위치입니다. 목록을 처음부터 다시 조회해주세요.", HttpStatus.BAD_REQUEST.value()),
+    BULK_TOO_LARGE(2008, "한 번에 등록할 수 있는 주문 수를 초과했습니다.", HttpStatus.BAD_REQUEST.value()),
+    CONCURRENT_MODIFICATION(2009, "다른 요청에 의해 주문이 변경되었습니다. 다시 시도해주세요.", HttpStatus.CONFLICT.value()),
+    TOO_MANY_EXPORTS(2010, "진행 중인 주문 내역 내보내기가 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS.value()),
 
     // 공통
     SERVER_ERROR(5000, "알수 없는 문제가 발생했습니다.", HttpStatus.INTERNAL_SERVER_ERROR.value()),
     INVALID_FIELD_TYPE(5001, "필드 타입이 잘못되었습니다.", HttpStatus.BAD_REQUEST.value()),
     ILLEGAL_STATE(5002, "잘못된 상태입니다.", HttpStatus.BAD_REQUEST.value()),
-    METHOD_NOT_ALLOWED(5003, "지원되지 않는 요청 방법입니다.", HttpStatus.METHOD_NOT_ALLOWED.value());
+    METHOD_NOT_ALLOWED(5003, "지원되지 않는 요청 방법입니다.", HttpStatus.METHOD_NOT_ALLOWED.value()),
+    RATE_LIMITED(5004, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", HttpStatus.TOO_MANY_REQUESTS.value());
 
     private int errorCode;
     private String message;
@@ -0,0 +1,85 @@
+package backend.trade.common.grpc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * AIMD 방식의 동시 호출 수 제한
+ * - 지연 시간이 latency-threshold 이내로 성공하면 limit 을 조금씩 증가 (+1/limit, 대략 RTT 당 +1)
+ * - 실패하거나 지연 시간이 threshold 를 넘으면 limit 을 backoff-ratio 만큼 감소
+ * 제한을 넘는 호출은 대기하지 않고 즉시 거절
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /** double limit 의 bit, 모든 호출이 갱신하므로 lock 없이 CAS 로 조정 */
+    private final AtomicLong limitBits = new AtomicLong();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdMillis, double backoffRatio) {
+        this.limitBits.set(Double.doubleToRawLongBits(initialLimit));
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdMillis * 1_000_000;
+        this.backoffRatio = backoffRatio;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void onSuccess(long latencyNanos) {
+        inFlight.decrementAndGet();
+        if (latencyNanos > latencyThresholdNanos) {
+            decrease();
+        } else {
+            increase();
+        }
+    }
+
+    public void onFailure() {
+        inFlight.decrementAndGet();
+        decrease();
+    }
+
+    /**
+     * 결과와 관계없이 limit 을 조정하지 않고 반납 (클라이언트 측 오류 등)
+     */
+    public void onIgnore() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) Double.longBitsToDouble(limitBits.get());
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void increase() {
+        update(limit -> Math.min(maxLimit, limit + 1.0 / limit));
+    }
+
+    private void decrease() {
+        update(limit -> Math.max(minLimit, limit * backoffRatio));
+    }
+
+    private void update(DoubleUnaryOperator function) {
+        limitBits.updateAndGet(bits -> Double.doubleToRawLongBits(function.applyAsDouble(Double.longBitsToDouble(bits))));
+    }
+}
@@ -0,0 +1,190 @@
+package backend.trade.common.grpc;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import io.grpc.Status;
+import io.grpc.StatusException;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 인증 서버 호출을 circuit breaker 와 adaptive concurrency limit 으로 보호
+ * 호출할 수 없는 상태(OPEN, limit 초과)이거나 서버 측 오류로 실패하면 AUTH_UNAVAILABLE 로 즉시 실패
+ */
+@Component
+@Slf4j
+public class AuthCallGuard {
+
+    private static final Set<Status.Code> SERVER_FAILURES = EnumSet.of(
+            Status.Code.UNAVAILABLE,
+            Status.Code.DEADLINE_EXCEEDED,
+            Status.Code.RESOURCE_EXHAUSTED,
+            Status.Code.INTERNAL,
+            Status.Code.UNKNOWN);
+
+    private final boolean enabled;
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final MeterRegistry meterRegistry;
+    private final Counter circuitOpenRejections;
+    private final Counter limitRejections;
+
+    public AuthCallGuard(MeterRegistry meterRegistry,
+                         @Value("${grpc.auth.guard.enabled:true}") boolean enabled,
+                         @Value("${grpc.auth.guard.circuit.window-size:50}") int windowSize,
+                         @Value("${grpc.auth.guard.circuit.minimum-calls:20}") int minimumCalls,
+                         @Value("${grpc.auth.guard.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+                         @Value("${grpc.auth.guard.circuit.open-duration-ms:5000}") long openDurationMillis,
+                         @Value("${grpc.auth.guard.circuit.half-open-calls:5}") int halfOpenCalls,
+                         @Value("${grpc.auth.guard.limit.initial:20}") int initialLimit,
+                         @Value("${grpc.auth.guard.limit.min:2}") int minLimit,
+                         @Value("${grpc.auth.guard.limit.max:200}") int maxLimit,
+                         @Value("${grpc.auth.guard.limit.latency-threshold-ms:200}") long latencyThresholdMillis,
+                         @Value("${grpc.auth.guard.limit.backoff-ratio:0.9}") double backoffRatio) {
+        this.enabled = enabled;
+        this.meterRegistry = meterRegistry;
+        this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+                openDurationMillis, halfOpenCalls, this::onTransition);
+        this.limiter = new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, latencyThresholdMillis, backoffRatio);
+
+        this.circuitOpenRejections = Counter.builder("auth.client.rejections")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        this.limitRejections = Counter.builder("auth.client.rejections")
+                .tag("reason", "limit_exceeded")
+                .register(meterRegistry);
+        Gauge.builder("auth.client.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .register(meterRegistry);
+        Gauge.builder("auth.client.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .register(meterRegistry);
+        Gauge.builder("auth.client.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+    }
+
+    public <T> T call(Supplier<T> rpc) {
+        if (!enabled) {
+            return rpc.get();
+        }
+        acquire();
+
+        long startedAt = System.nanoTime();
+        try {
+            T result = rpc.get();
+            onSuccess(startedAt);
+            return result;
+        } catch (RuntimeException e) {
+            throw onFailure(e);
+        }
+    }
+
+    public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> rpc) {
+        if (!enabled) {
+            return rpc.get();
+        }
+        try {
+            acquire();
+        } catch (CustomException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            CompletableFuture<T> call = rpc.get();
+            // 호출자가 cancel 하면 진행 중인 RPC 도 cancel
+            result.whenComplete((value, throwable) -> {
+                if (result.isCancelled()) {
+                    call.cancel(true);
+                }
+            });
+            call.whenComplete((value, throwable) -> {
+                if (throwable == null) {
+                    onSuccess(startedAt);
+                    result.complete(value);
+                } else {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                            ? throwable.getCause() : throwable;
+                    result.completeExceptionally(onFailure(cause));
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(onFailure(e));
+        }
+        return result;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getConcurrencyLimit() {
+        return limiter.getLimit();
+    }
+
+    private void acquire() {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            circuitOpenRejections.increment();
+            throw new CustomException(CustomError.AUTH_UNAVAILABLE);
+        }
+        if (!limiter.tryAcquire()) {
+            // 호출하지 않으므로 circuit 결과도 기록되지 않음, 받은 허가(HALF_OPEN 시험 호출)를 반납
+            circuitBreaker.releasePermission();
+            limitRejections.increment();
+            throw new CustomException(CustomError.AUTH_UNAVAILABLE);
+        }
+    }
+
+    private void onSuccess(long startedAt) {
+        limiter.onSuccess(System.nanoTime() - startedAt);
+        circuitBreaker.onSuccess();
+    }
+
+    /**
+     * 서버 측 오류면 limit 감소, circuit 실패로 기록하고 AUTH_UNAVAILABLE 로 변환
+     * @param throwable
+     * @return 호출자에게 전달할 예외
+     */
+    private RuntimeException onFailure(Throwable throwable) {
+        Status status = grpcStatus(throwable);
+        if (status != null && SERVER_FAILURES.contains(status.getCode())) {
+            limiter.onFailure();
+            circuitBreaker.onFailure();
+            log.warn("Auth server call failed :: {}", status);
+            return new CustomException(CustomError.AUTH_UNAVAILABLE);
+        }
+
+        limiter.onIgnore();
+        circuitBreaker.onSuccess();
+        return throwable instanceof RuntimeException runtimeException
+                ? runtimeException : new CompletionException(throwable);
+    }
+
+    private Status grpcStatus(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof StatusRuntimeException statusRuntimeException) {
+                return statusRuntimeException.getStatus();
+            }
+            if (cause instanceof StatusException statusException) {
+                return statusException.getStatus();
+            }
+        }
+        return null;
+    }
+
+    private void onTransition(CircuitBreaker.State from, CircuitBreaker.State to) {
+        log.warn("Auth circuit breaker {} -> {}", from, to);
+        meterRegistry.counter("auth.client.circuit.transitions", "from", from.name(), "to", to.name()).increment();
+    }
+}
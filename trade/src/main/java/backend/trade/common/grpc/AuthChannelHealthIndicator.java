@@ -0,0 +1,32 @@
+package backend.trade.common.grpc;
+
+import io.grpc.ConnectivityState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * /actuator/health 의 authChannel 항목
+ * 하나라도 READY 또는 IDLE 이면 UP, 모두 TRANSIENT_FAILURE/SHUTDOWN 이면 DOWN
+ */
+@Component("authChannel")
+@RequiredArgsConstructor
+public class AuthChannelHealthIndicator implements HealthIndicator {
+
+    private final AuthChannelPool authChannelPool;
+
+    @Override
+    public Health health() {
+        List<ConnectivityState> states = authChannelPool.getStates();
+
+        boolean usable = states.stream()
+                .anyMatch(state -> state == ConnectivityState.READY || state == ConnectivityState.IDLE);
+        boolean connecting = states.stream().anyMatch(state -> state == ConnectivityState.CONNECTING);
+
+        Health.Builder builder = usable ? Health.up() : connecting ? Health.unknown() : Health.down();
+        return builder.withDetail("states", states).build();
+    }
+}
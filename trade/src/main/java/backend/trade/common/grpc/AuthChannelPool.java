@@ -0,0 +1,101 @@
+package backend.trade.common.grpc;
+
+import io.grpc.ClientInterceptor;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.NameResolverRegistry;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 인증 서버와 통신하는 채널 묶음
+ * 채널마다 별도의 HTTP/2 연결을 사용하고, 채널 안에서는 주소 목록을 load balancing policy 로 분산
+ */
+@Slf4j
+public class AuthChannelPool implements AutoCloseable {
+
+    private static final StaticAddressNameResolverProvider NAME_RESOLVER_PROVIDER = new StaticAddressNameResolverProvider();
+
+    static {
+        NameResolverRegistry.getDefaultRegistry().register(NAME_RESOLVER_PROVIDER);
+    }
+
+    private final List<ManagedChannel> channels;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public AuthChannelPool(AuthChannelProperties properties, List<ClientInterceptor> interceptors) {
+        String target = StaticAddressNameResolverProvider.target(properties.getAuthority(), properties.getAddresses());
+        int poolSize = Math.max(1, properties.getPoolSize());
+
+        List<ManagedChannel> created = new ArrayList<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            created.add(buildChannel(target, properties, interceptors));
+        }
+        this.channels = List.copyOf(created);
+        log.info("Auth channel pool :: target={}, poolSize={}", target, poolSize);
+    }
+
+    AuthChannelPool(List<ManagedChannel> channels) {
+        this.channels = List.copyOf(channels);
+    }
+
+    /**
+     * @return 다음 채널 (round robin)
+     */
+    public ManagedChannel next() {
+        if (channels.size() == 1) {
+            return channels.get(0);
+        }
+        return channels.get(Math.floorMod(next.getAndIncrement(), channels.size()));
+    }
+
+    /**
+     * @return 채널별 연결 상태 (연결을 새로 시도하지 않음)
+     */
+    public List<ConnectivityState> getStates() {
+        return channels.stream().map(channel -> channel.getState(false)).toList();
+    }
+
+    public int size() {
+        return channels.size();
+    }
+
+    @Override
+    public void close() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+        for (ManagedChannel channel : channels) {
+            try {
+                if (!channel.awaitTermination(5, TimeUnit.SECONDS)) {
+                    channel.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                channel.shutdownNow();
+            }
+        }
+    }
+
+    private ManagedChannel buildChannel(String target, AuthChannelProperties properties,
+                                        List<ClientInterceptor> interceptors) {
+        NettyChannelBuilder builder = NettyChannelBuilder.forTarget(target)
+                .defaultLoadBalancingPolicy(properties.getLoadBalancingPolicy())
+                .keepAliveTime(properties.getKeepAliveTimeSeconds(), TimeUnit.SECONDS)
+                .keepAliveTimeout(properties.getKeepAliveTimeoutSeconds(), TimeUnit.SECONDS)
+                .keepAliveWithoutCalls(properties.isKeepAliveWithoutCalls())
+                .idleTimeout(properties.getIdleTimeoutSeconds(), TimeUnit.SECONDS)
+                .flowControlWindow(properties.getFlowControlWindow())
+                .maxInboundMessageSize(properties.getMaxInboundMessageSize())
+                .intercept(interceptors);
+        if (properties.isPlaintext()) {
+            builder.usePlaintext();
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,51 @@
+package backend.trade.common.grpc;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 인증 서버 채널 설정 (grpc.auth.channel)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "grpc.auth.channel")
+public class AuthChannelProperties {
+
+    /**
+     * 인증 서버 주소 목록 (host:port), 여러 개면 round_robin 으로 분산
+     */
+    private List<String> addresses = new ArrayList<>(List.of("localhost:50051"));
+
+    /**
+     * TLS 인증서의 호스트 이름과 맞춰야 하는 authority (host 또는 host:port), 비어 있으면 첫 번째 주소
+     */
+    private String authority;
+
+    /**
+     * 서로 다른 HTTP/2 연결을 쓰는 채널 수 (연결당 동시 stream 경합 분산)
+     */
+    private int poolSize = 1;
+
+    private String loadBalancingPolicy = "round_robin";
+
+    private boolean plaintext = true;
+
+    private long keepAliveTimeSeconds = 30;
+
+    private long keepAliveTimeoutSeconds = 10;
+
+    private boolean keepAliveWithoutCalls = true;
+
+    private long idleTimeoutSeconds = 300;
+
+    /**
+     * HTTP/2 flow-control window (bytes)
+     */
+    private int flowControlWindow = 1024 * 1024;
+
+    private int maxInboundMessageSize = 4 * 1024 * 1024;
+}
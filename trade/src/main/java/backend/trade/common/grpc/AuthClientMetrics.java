@@ -0,0 +1,53 @@
+package backend.trade.common.grpc;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 검증 캐시(L1/L2), 요청 합치기, hedging 카운터를 Micrometer 에 등록
+ */
+@Component
+@RequiredArgsConstructor
+public class AuthClientMetrics implements MeterBinder {
+
+    private final TokenVerificationCache tokenCache;
+    private final RedisTokenCache redisTokenCache;
+    private final AuthClientService authClientService;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("auth.cache.requests", tokenCache, TokenVerificationCache::getHitCount)
+                .tags("tier", "l1", "result", "hit").register(registry);
+        FunctionCounter.builder("auth.cache.requests", tokenCache, TokenVerificationCache::getNegativeHitCount)
+                .tags("tier", "l1", "result", "negative_hit").register(registry);
+        FunctionCounter.builder("auth.cache.requests", tokenCache, TokenVerificationCache::getMissCount)
+                .tags("tier", "l1", "result", "miss").register(registry);
+        FunctionCounter.builder("auth.cache.evictions", tokenCache, TokenVerificationCache::getEvictionCount)
+                .tags("tier", "l1").register(registry);
+        Gauge.builder("auth.cache.hit_ratio", tokenCache, TokenVerificationCache::getHitRate)
+                .tags("tier", "l1").register(registry);
+        Gauge.builder("auth.cache.size", tokenCache, TokenVerificationCache::size)
+                .tags("tier", "l1").register(registry);
+
+        FunctionCounter.builder("auth.cache.requests", redisTokenCache, RedisTokenCache::getHitCount)
+                .tags("tier", "l2", "result", "hit").register(registry);
+        FunctionCounter.builder("auth.cache.requests", redisTokenCache, RedisTokenCache::getMissCount)
+                .tags("tier", "l2", "result", "miss").register(registry);
+        FunctionCounter.builder("auth.cache.errors", redisTokenCache, RedisTokenCache::getErrorCount)
+                .tags("tier", "l2").register(registry);
+        Gauge.builder("auth.cache.hit_ratio", redisTokenCache, RedisTokenCache::getHitRate)
+                .tags("tier", "l2").register(registry);
+
+        FunctionCounter.builder("auth.client.coalesced", authClientService, AuthClientService::getCoalescedVerificationCount)
+                .description("Verifications that shared an in-flight call")
+                .register(registry);
+        FunctionCounter.builder("auth.client.hedges", authClientService, AuthClientService::getHedgedVerificationCount)
+                .tags("result", "sent").register(registry);
+        FunctionCounter.builder("auth.client.hedges", authClientService, AuthClientService::getHedgeWinCount)
+                .tags("result", "won").register(registry);
+    }
+}
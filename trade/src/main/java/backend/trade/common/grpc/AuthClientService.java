@@ -2,75 +2,315 @@ package backend.trade.common.grpc;
 
 import auth.Auth;
 import auth.AuthServiceGrpc;
+import backend.trade.common.concurrent.SingleFlight;
 import backend.trade.common.exception.CustomError;
 import backend.trade.common.exception.CustomException;
 import io.grpc.ClientInterceptor;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
+import io.grpc.Deadline;
 import io.grpc.Metadata;
 import io.grpc.stub.MetadataUtils;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import net.devh.boot.grpc.client.inject.GrpcClient;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Service
 @Slf4j
 public class AuthClientService {
 
-    private final ManagedChannel channel;
-    @GrpcClient("security-grpc-server")
-    private final AuthServiceGrpc.AuthServiceBlockingStub authServiceStub;
+    private final AuthChannelPool channelPool;
+    private final AuthCallGuard callGuard;
+    private final TokenVerificationCache tokenCache;
+    private final RedisTokenCache redisTokenCache;
+    private final LocalTokenVerifier localTokenVerifier;
+    private final boolean revocationCheck;
+    private final SingleFlight<String, Auth.TokenResponse> verifications = new SingleFlight<>();
+    private final TokenVerificationBatcher batcher;
+    private final long deadlineMillis;
+    private final ExecutorService lookupExecutor;
+    private final ScheduledExecutorService hedgeScheduler;
+    private final HedgedRequests hedgedRequests;
 
-    public AuthClientService(@Value("${grpc.auth.host}") String host,
-                             @Value("${grpc.auth.port}") int port) {
-        System.out.println("host : " + host);
-        this.channel = ManagedChannelBuilder.forAddress(host, port)
-                .usePlaintext()
-                .build();
-        this.authServiceStub = AuthServiceGrpc.newBlockingStub(channel);
+    public AuthClientService(AuthChannelPool channelPool,
+                             AuthCallGuard callGuard,
+                             @Value("${grpc.auth.deadline-ms:1000}") long deadlineMillis,
+                             @Value("${grpc.auth.hedging.enabled:false}") boolean hedgingEnabled,
+                             @Value("${grpc.auth.hedging.min-delay-ms:10}") long hedgingMinDelayMillis,
+                             @Value("${grpc.auth.local.revocation-check:true}") boolean revocationCheck,
+                             @Value("${grpc.auth.batch.enabled:false}") boolean batchEnabled,
+                             @Value("${grpc.auth.batch.max-size:64}") int batchMaxSize,
+                             @Value("${grpc.auth.batch.max-wait-micros:500}") long batchMaxWaitMicros,
+                             @Value("${grpc.auth.batch.sender-threads:4}") int batchSenderThreads,
+                             @Value("${grpc.auth.async.lookup-threads:4}") int lookupThreads,
+                             TokenVerificationCache tokenCache,
+                             RedisTokenCache redisTokenCache,
+                             LocalTokenVerifier localTokenVerifier) {
+        this.channelPool = channelPool;
+        this.callGuard = callGuard;
+        this.deadlineMillis = deadlineMillis;
+        this.tokenCache = tokenCache;
+        this.redisTokenCache = redisTokenCache;
+        this.localTokenVerifier = localTokenVerifier;
+        this.revocationCheck = revocationCheck;
+        this.batcher = batchEnabled
+                ? new TokenVerificationBatcher(request -> blockingStub().verifyTokens(request),
+                        batchMaxSize, batchMaxWaitMicros, batchSenderThreads)
+                : null;
+        AtomicInteger lookupThreadNumber = new AtomicInteger();
+        this.lookupExecutor = Executors.newFixedThreadPool(lookupThreads, runnable -> {
+            Thread thread = new Thread(runnable, "auth-lookup-" + lookupThreadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hedgeScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "auth-hedge-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hedgedRequests = new HedgedRequests(hedgeScheduler, new LatencyTracker(1024, 0.95, 1000),
+                hedgingEnabled, hedgingMinDelayMillis);
     }
 
+    /**
+     * @param token
+     * @return 유효 여부, 인증 서버를 사용할 수 없으면 AUTH_UNAVAILABLE 예외
+     */
     public boolean verifyToken(String token) {
         try {
-            // header 에 token 정보 추가
-            Metadata headers = createHeaders(token);
+            return verify(token).getIsValid();
+        } catch (CustomException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error verifying token :: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public Long getUserIdFromToken(String token) {
+        Auth.TokenResponse response = verify(token);
+
+        if (response.getIsValid()) {
+            return response.getUserId();
+        } else {
+              throw new CustomException(CustomError.INVALID_ACCESS_TOKEN);
+        }
+    }
+
+    /**
+     * L1(프로세스), L2(Redis) 캐시를 먼저 확인하고 없을 때만 검증
+     * 같은 토큰에 대한 동시 검증은 하나의 요청으로 합쳐서 결과(또는 예외)를 공유
+     * 로컬 검증 모드에서는 공개키로 서명을 직접 검증하고, kid 를 모르는 경우에만 VerifyToken 요청
+     * gRPC 호출이 실패한 경우는 캐싱하지 않음
+     * 원격 검증은 verifyAsync 와 같은 경로 (call guard, deadline, hedging) 를 거치고 호출 스레드에서 결과를 기다림
+     * @param token
+     * @return TokenResponse
+     */
+    public Auth.TokenResponse verify(String token) {
+        String tokenHash = TokenVerificationCache.hash(token);
+        Auth.TokenResponse cached = tokenCache.get(tokenHash);
+        if (cached != null) {
+            return cached;
+        }
+        return verifications.execute(tokenHash, () -> load(token, tokenHash));
+    }
+
+    /**
+     * 호출 스레드를 막지 않는 검증 (GrpcAuthServerInterceptor)
+     * - L1 hit 이면 완료된 future
+     * - L2(Redis) 조회와 로컬 검증은 auth-lookup 스레드에서 실행
+     * - 원격 검증은 call guard 를 거쳐 future stub 으로 요청, 호출 시점부터 grpc.auth.deadline-ms 인 deadline 을
+     *   hedging 요청과 공유하고 먼저 온 응답 외의 요청은 cancel
+     * 같은 토큰의 동시 검증은 verify 와 함께 하나로 합쳐짐
+     * @param token
+     * @return 검증 결과 future, 인증 서버를 사용할 수 없으면 AUTH_UNAVAILABLE 로 실패
+     */
+    public CompletableFuture<Auth.TokenResponse> verifyAsync(String token) {
+        try {
+            String tokenHash = TokenVerificationCache.hash(token);
+            Auth.TokenResponse cached = tokenCache.get(tokenHash);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+            Deadline deadline = Deadline.after(deadlineMillis, TimeUnit.MILLISECONDS);
+            return verifications.executeAsync(tokenHash, () -> loadAsync(token, tokenHash, deadline));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * @return 진행 중인 검증 결과를 공유받은 호출 수
+     */
+    public long getCoalescedVerificationCount() {
+        return verifications.getCoalescedCount();
+    }
+
+    /**
+     * @return hedging 으로 한 번 더 보낸 요청 수
+     */
+    public long getHedgedVerificationCount() {
+        return hedgedRequests.getHedgeCount();
+    }
 
-            // interceptor 로 header 정보 추가
-            ClientInterceptor authInterceptor = MetadataUtils.newAttachHeadersInterceptor(headers);
+    /**
+     * @return 한 번 더 보낸 요청이 먼저 응답한 수
+     */
+    public long getHedgeWinCount() {
+        return hedgedRequests.getHedgeWinCount();
+    }
 
-            // authServiceStub 에 interceptor 붙이기
-            AuthServiceGrpc.AuthServiceBlockingStub stubWithCallCredentials =
-                    authServiceStub.withInterceptors(authInterceptor);
+    private Auth.TokenResponse load(String token, String tokenHash) {
+        Deadline deadline = Deadline.after(deadlineMillis, TimeUnit.MILLISECONDS);
+        Auth.TokenResponse found = lookup(token, tokenHash);
+        if (found != null) {
+            return found;
+        }
+        return store(token, tokenHash, await(callGuard.callAsync(() -> requestVerification(token, deadline))));
+    }
 
-            // TokenRequest 보내기
-            Auth.TokenRequest request = Auth.TokenRequest.newBuilder()
-                    .setToken(token)
-                    .build();
+    private CompletableFuture<Auth.TokenResponse> loadAsync(String token, String tokenHash, Deadline deadline) {
+        return CompletableFuture.supplyAsync(() -> lookup(token, tokenHash), lookupExecutor)
+                .thenCompose(found -> found != null
+                        ? CompletableFuture.completedFuture(found)
+                        // Redis 쓰기가 gRPC 응답 스레드를 막지 않도록 저장은 다시 auth-lookup 스레드에서
+                        : callGuard.callAsync(() -> requestVerification(token, deadline))
+                                .thenApplyAsync(response -> store(token, tokenHash, response), lookupExecutor));
+    }
 
-            Auth.TokenResponse response = stubWithCallCredentials.verifyToken(request);
-            return response.getIsValid();
+    /**
+     * @return L2 에 있거나 로컬 검증으로 판단한 결과, 원격 검증이 필요하면 null
+     */
+    private Auth.TokenResponse lookup(String token, String tokenHash) {
+        Auth.TokenResponse cached = redisTokenCache.get(tokenHash);
+        if (cached != null) {
+            tokenCache.put(tokenHash, token, cached);
+            return cached;
+        }
+        Auth.TokenResponse local = localTokenVerifier.isEnabled() ? verifyLocally(token) : null;
+        return local != null ? store(token, tokenHash, local) : null;
+    }
+
+    private Auth.TokenResponse store(String token, String tokenHash, Auth.TokenResponse response) {
+        // 검증하는 동안 폐기되었으면 (L2 에 폐기 표시) L1 에도 저장하지 않음
+        if (redisTokenCache.put(tokenHash, response, tokenCache.expiresAt(token, System.currentTimeMillis()))) {
+            tokenCache.put(tokenHash, token, response);
+        }
+        return response;
+    }
+
+    /**
+     * 공개키로 로컬 검증 후 폐기 여부만 인증 서버에 확인
+     * @param token
+     * @return 알 수 없는 kid 면 null (원격 검증으로 대체)
+     */
+    private Auth.TokenResponse verifyLocally(String token) {
+        LocalTokenVerifier.Result result = localTokenVerifier.verify(token);
+        switch (result.outcome()) {
+            case UNKNOWN_KEY:
+                return null;
+            case INVALID:
+                return Auth.TokenResponse.newBuilder().setIsValid(false).build();
+            default:
+                break;
+        }
+
+        if (revocationCheck && isRevoked(result)) {
+            return Auth.TokenResponse.newBuilder().setIsValid(false).build();
+        }
+        return Auth.TokenResponse.newBuilder()
+                .setIsValid(true)
+                .setUserId(result.userId())
+                .build();
+    }
+
+    private boolean isRevoked(LocalTokenVerifier.Result result) {
+        Auth.RevocationRequest request = Auth.RevocationRequest.newBuilder()
+                .setTokenId(result.tokenId() != null ? result.tokenId() : "")
+                .setUserId(result.userId())
+                .setIssuedAt(result.issuedAt())
+                .build();
+        return callGuard.call(() -> blockingStub().checkRevocation(request)).getRevoked();
+    }
+
+    /**
+     * 로컬 검증 모드일 때 인증 서버의 공개키 목록을 주기적으로 갱신
+     */
+    @Scheduled(fixedDelayString = "${grpc.auth.local.key-refresh-ms:300000}")
+    public void refreshSigningKeys() {
+        if (!localTokenVerifier.isEnabled()) {
+            return;
+        }
+        try {
+            Auth.SigningKeysResponse response = blockingStub().getSigningKeys(Auth.SigningKeysRequest.getDefaultInstance());
+            localTokenVerifier.updateKeys(response.getKeysList());
         } catch (Exception e) {
-            log.error("Error verifying token :: {}", e.getMessage());
-            return false;
+            log.error("Error refreshing signing keys :: {}", e.getMessage());
         }
     }
 
-    public Long getUserIdFromToken(String token) {
+    /**
+     * VerifyToken (배치 검증이 켜져 있으면 VerifyTokens 로 묶어서) 요청
+     * p95 지연 안에 응답이 없으면 다른 채널로 한 번 더 요청하고 먼저 온 응답을 사용 (늦은 요청은 cancel, hedging 설정 시)
+     * 모든 요청이 같은 deadline 을 공유해서 전체 대기 시간은 deadline 을 넘지 않음
+     * @param token
+     * @param deadline 검증을 시작한 시점부터의 deadline
+     * @return 응답 future
+     */
+    private CompletableFuture<Auth.TokenResponse> requestVerification(String token, Deadline deadline) {
+        if (batcher != null) {
+            return batcher.submit(token);
+        }
+
+        // header 에 token 정보 추가
+        Metadata headers = createHeaders(token);
+
+        // interceptor 로 header 정보 추가
+        ClientInterceptor authInterceptor = MetadataUtils.newAttachHeadersInterceptor(headers);
+
+        // TokenRequest 보내기
         Auth.TokenRequest request = Auth.TokenRequest.newBuilder()
                 .setToken(token)
                 .build();
 
-        Auth.TokenResponse response = authServiceStub.verifyToken(request);
+        return hedgedRequests.call(() -> AuthServiceGrpc.newFutureStub(channelPool.next())
+                .withInterceptors(authInterceptor)
+                .withDeadline(deadline)
+                .verifyToken(request));
+    }
 
-        if (response.getIsValid()) {
-            return response.getUserId();
-        } else {
-              throw new CustomException(CustomError.INVALID_ACCESS_TOKEN);
+    private Auth.TokenResponse await(CompletableFuture<Auth.TokenResponse> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while verifying token", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
         }
     }
 
+    /**
+     * 채널 풀에서 돌아가며 채널을 고르고, deadline 은 호출 시점부터 계산되므로 호출마다 새로 적용
+     * @return deadline 이 적용된 blocking stub
+     */
+    private AuthServiceGrpc.AuthServiceBlockingStub blockingStub() {
+        return AuthServiceGrpc.newBlockingStub(channelPool.next())
+                .withDeadlineAfter(deadlineMillis, TimeUnit.MILLISECONDS);
+    }
+
     private Metadata createHeaders(String token) {
         Metadata headers = new Metadata();
         Metadata.Key<String> authHeaderKey = Metadata.Key.of("Authorization", Metadata.ASCII_STRING_MARSHALLER);
@@ -80,8 +320,10 @@ public class AuthClientService {
 
     @PreDestroy
     public void shutdown() {
-        if (channel != null) {
-            channel.shutdown();
+        if (batcher != null) {
+            batcher.close();
         }
+        lookupExecutor.shutdownNow();
+        hedgeScheduler.shutdownNow();
     }
 }
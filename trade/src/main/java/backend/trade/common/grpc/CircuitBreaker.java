@@ -0,0 +1,152 @@
+package backend.trade.common.grpc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+/**
+ * 인증 서버 호출용 circuit breaker
+ * - CLOSED : 최근 window-size 건 중 실패율이 threshold 이상이면 OPEN
+ * - OPEN : open-duration 동안 모든 호출을 즉시 거절, 이후 HALF_OPEN
+ * - HALF_OPEN : half-open-calls 건만 시험 호출, 모두 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final BiConsumer<State, State> transitionListener;
+
+    // 모든 인증 호출이 결과를 기록하므로 synchronized 대신 사용 (virtual thread pinning 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final boolean[] outcomes;
+    private int recorded;
+    private int position;
+    private int failures;
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private final AtomicInteger halfOpenPermits = new AtomicInteger();
+    private final AtomicInteger halfOpenSuccesses = new AtomicInteger();
+
+    public CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold,
+                          long openDurationMillis, int halfOpenCalls, BiConsumer<State, State> transitionListener) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationNanos = openDurationMillis * 1_000_000;
+        this.halfOpenCalls = halfOpenCalls;
+        this.transitionListener = transitionListener;
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * @return 호출해도 되면 true, OPEN 이거나 HALF_OPEN 시험 호출 수를 넘었으면 false
+     */
+    public boolean tryAcquirePermission() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt < openDurationNanos) {
+                return false;
+            }
+            transitionToHalfOpen();
+        }
+        return halfOpenPermits.getAndDecrement() > 0;
+    }
+
+    /**
+     * tryAcquirePermission 으로 받은 허가를 호출하지 않고 돌려줌 (다른 이유로 호출을 포기한 경우)
+     * HALF_OPEN 시험 호출 수를 돌려주지 않으면 결과가 기록되지 않아 HALF_OPEN 에서 벗어나지 못함
+     */
+    public void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits.incrementAndGet();
+        }
+    }
+
+    public void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (halfOpenSuccesses.incrementAndGet() >= halfOpenCalls) {
+                transition(State.HALF_OPEN, State.CLOSED);
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transition(State.HALF_OPEN, State.OPEN);
+            return;
+        }
+        record(true);
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        lock.lock();
+        try {
+            if (state != State.CLOSED) {
+                return;
+            }
+            if (recorded == windowSize && outcomes[position]) {
+                failures--;
+            }
+            outcomes[position] = failure;
+            if (failure) {
+                failures++;
+            }
+            position = (position + 1) % windowSize;
+            recorded = Math.min(recorded + 1, windowSize);
+
+            if (recorded >= minimumCalls && (double) failures / recorded >= failureRateThreshold) {
+                transition(State.CLOSED, State.OPEN);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void transitionToHalfOpen() {
+        transition(State.OPEN, State.HALF_OPEN);
+    }
+
+    private void transition(State from, State to) {
+        lock.lock();
+        try {
+            if (state != from) {
+                return;
+            }
+            switch (to) {
+                case OPEN -> openedAt = System.nanoTime();
+                case HALF_OPEN -> {
+                    halfOpenPermits.set(halfOpenCalls);
+                    halfOpenSuccesses.set(0);
+                }
+                case CLOSED -> {
+                    recorded = 0;
+                    position = 0;
+                    failures = 0;
+                }
+            }
+            state = to;
+            transitionListener.accept(from, to);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package backend.trade.common.grpc;
+
+import io.grpc.Context;
+
+/**
+ * gRPC 서버 호출의 인증 정보
+ * GrpcAuthServerInterceptor 가 검증한 userId 를 호출 Context 에 저장
+ */
+public final class GrpcAuthContext {
+
+    public static final Context.Key<Long> USER_ID = Context.key("userId");
+
+    private GrpcAuthContext() {
+    }
+
+    /**
+     * @return 현재 gRPC 호출의 인증된 userId
+     */
+    public static Long currentUserId() {
+        return USER_ID.get();
+    }
+}
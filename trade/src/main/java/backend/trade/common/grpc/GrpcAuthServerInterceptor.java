@@ -0,0 +1,186 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.StatusRuntimeException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.core.annotation.Order;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+/**
+ * gRPC 서버로 들어온 호출의 authorization metadata 를 검증 (호출/stream 당 한 번)
+ * 검증된 userId 는 GrpcAuthContext.USER_ID 로 서비스에 전달 (요청 수 제한 등 뒤에 실행되는 interceptor 에서도 사용)
+ * 검증은 AuthClientService.verifyAsync 로 하고, 끝나지 않았으면 gRPC 스레드를 막지 않고 완료 후에 호출을 시작
+ * (그 사이에 받은 listener 이벤트는 모아 두었다가 순서대로 전달)
+ * health check, reflection 은 로드 밸런서/도구가 토큰 없이 호출하므로 검증하지 않음
+ */
+@Slf4j
+@GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_SECURITY_AUTHENTICATION)
+@RequiredArgsConstructor
+public class GrpcAuthServerInterceptor implements ServerInterceptor {
+
+    private static final Metadata.Key<String> AUTHORIZATION_KEY =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final Set<String> PUBLIC_SERVICE_PREFIXES = Set.of("grpc.health.", "grpc.reflection.");
+
+    private final AuthClientService authClientService;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        if (isPublic(call.getMethodDescriptor().getServiceName())) {
+            return next.startCall(call, headers);
+        }
+
+        String authorization = headers.get(AUTHORIZATION_KEY);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return reject(call, CustomError.INVALID_ACCESS_TOKEN);
+        }
+
+        // 완료 callback 은 다른 스레드에서 실행되므로 호출의 Context (deadline, cancel) 를 넘겨서 사용
+        Context callContext = Context.current();
+        CompletableFuture<Auth.TokenResponse> verification =
+                authClientService.verifyAsync(authorization.substring(BEARER_PREFIX.length()));
+        if (verification.isDone()) {
+            // L1 hit 은 바로 시작
+            return start(callContext, verification, call, headers, next);
+        }
+
+        PendingListener<ReqT> pending = new PendingListener<>();
+        verification.whenComplete((response, throwable) -> {
+            ServerCall.Listener<ReqT> listener;
+            try {
+                listener = start(callContext, verification, call, headers, next);
+            } catch (RuntimeException e) {
+                log.error("Error starting call after token verification :: {}", e.getMessage());
+                listener = reject(call, CustomError.SERVER_ERROR);
+            }
+            pending.start(listener);
+        });
+        return pending;
+    }
+
+    private <ReqT, RespT> ServerCall.Listener<ReqT> start(Context callContext,
+                                                         CompletableFuture<Auth.TokenResponse> verification,
+                                                         ServerCall<ReqT, RespT> call, Metadata headers,
+                                                         ServerCallHandler<ReqT, RespT> next) {
+        Auth.TokenResponse tokenResponse;
+        try {
+            tokenResponse = verification.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                return reject(call, customException.getCustomError());
+            }
+            log.error("Error verifying token :: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            return reject(call, CustomError.SERVER_ERROR);
+        } catch (Exception e) {
+            log.error("Error verifying token :: {}", e.getMessage());
+            return reject(call, CustomError.SERVER_ERROR);
+        }
+        if (!tokenResponse.getIsValid()) {
+            return reject(call, CustomError.INVALID_ACCESS_TOKEN);
+        }
+
+        Context context = callContext.withValue(GrpcAuthContext.USER_ID, tokenResponse.getUserId());
+        return Contexts.interceptCall(context, call, headers, next);
+    }
+
+    private static boolean isPublic(String serviceName) {
+        if (serviceName == null) {
+            return false;
+        }
+        for (String prefix : PUBLIC_SERVICE_PREFIXES) {
+            if (serviceName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private <ReqT, RespT> ServerCall.Listener<ReqT> reject(ServerCall<ReqT, RespT> call, CustomError error) {
+        StatusRuntimeException exception = GrpcErrors.toStatusException(error);
+        call.close(exception.getStatus(), exception.getTrailers());
+        return new ServerCall.Listener<>() {
+        };
+    }
+
+    /**
+     * 검증이 끝나기 전에 받은 이벤트를 모아 두었다가, 검증 후 시작한 호출의 listener 에 받은 순서대로 전달
+     * 모아 둔 이벤트를 모두 넘긴 뒤에야 직접 전달하므로 listener 가 동시에 호출되지 않음
+     */
+    private static final class PendingListener<ReqT> extends ServerCall.Listener<ReqT> {
+
+        private final List<Consumer<ServerCall.Listener<ReqT>>> events = new ArrayList<>();
+        private ServerCall.Listener<ReqT> delegate;
+
+        void start(ServerCall.Listener<ReqT> listener) {
+            while (true) {
+                List<Consumer<ServerCall.Listener<ReqT>>> replay;
+                synchronized (this) {
+                    if (events.isEmpty()) {
+                        delegate = listener;
+                        return;
+                    }
+                    replay = new ArrayList<>(events);
+                    events.clear();
+                }
+                replay.forEach(event -> event.accept(listener));
+            }
+        }
+
+        private void deliver(Consumer<ServerCall.Listener<ReqT>> event) {
+            ServerCall.Listener<ReqT> listener;
+            synchronized (this) {
+                if (delegate == null) {
+                    events.add(event);
+                    return;
+                }
+                listener = delegate;
+            }
+            event.accept(listener);
+        }
+
+        @Override
+        public void onMessage(ReqT message) {
+            deliver(listener -> listener.onMessage(message));
+        }
+
+        @Override
+        public void onHalfClose() {
+            deliver(ServerCall.Listener::onHalfClose);
+        }
+
+        @Override
+        public void onCancel() {
+            deliver(ServerCall.Listener::onCancel);
+        }
+
+        @Override
+        public void onComplete() {
+            deliver(ServerCall.Listener::onComplete);
+        }
+
+        @Override
+        public void onReady() {
+            deliver(ServerCall.Listener::onReady);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package backend.trade.common.grpc;
+
+import com.google.protobuf.MessageLite;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * gRPC 클라이언트 호출 metric
+ * - grpc.client.calls : method, status 별 지연 시간 (p50/p99/p999)
+ * - grpc.client.calls.in_flight : method 별 진행 중인 호출 수
+ * - grpc.client.request.size / grpc.client.response.size : method 별 메시지 크기 (bytes)
+ */
+@Component
+@RequiredArgsConstructor
+public class GrpcClientMetricsInterceptor implements ClientInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> requestSizes = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> responseSizes = new ConcurrentHashMap<>();
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                                                               CallOptions callOptions, Channel next) {
+        String methodName = method.getFullMethodName();
+
+        return new ForwardingClientCall.SimpleForwardingClientCall<>(next.newCall(method, callOptions)) {
+
+            @Override
+            public void start(Listener<RespT> responseListener, Metadata headers) {
+                long startedAt = System.nanoTime();
+                AtomicInteger calls = inFlight(methodName);
+                calls.incrementAndGet();
+
+                super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<>(responseListener) {
+                    @Override
+                    public void onMessage(RespT message) {
+                        recordSize(responseSizes, "grpc.client.response.size", methodName, message);
+                        super.onMessage(message);
+                    }
+
+                    @Override
+                    public void onClose(Status status, Metadata trailers) {
+                        calls.decrementAndGet();
+                        timer(methodName, status.getCode()).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                        super.onClose(status, trailers);
+                    }
+                }, headers);
+            }
+
+            @Override
+            public void sendMessage(ReqT message) {
+                recordSize(requestSizes, "grpc.client.request.size", methodName, message);
+                super.sendMessage(message);
+            }
+        };
+    }
+
+    private Timer timer(String methodName, Status.Code code) {
+        return timers.computeIfAbsent(methodName + '/' + code, key -> Timer.builder("grpc.client.calls")
+                .tag("method", methodName)
+                .tag("status", code.name())
+                .publishPercentiles(0.5, 0.99, 0.999)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private AtomicInteger inFlight(String methodName) {
+        return inFlight.computeIfAbsent(methodName, key -> {
+            AtomicInteger calls = new AtomicInteger();
+            Gauge.builder("grpc.client.calls.in_flight", calls, AtomicInteger::get)
+                    .tag("method", methodName)
+                    .register(meterRegistry);
+            return calls;
+        });
+    }
+
+    private void recordSize(Map<String, DistributionSummary> summaries, String name, String methodName, Object message) {
+        if (!(message instanceof MessageLite messageLite)) {
+            return;
+        }
+        summaries.computeIfAbsent(methodName, key -> DistributionSummary.builder(name)
+                        .baseUnit("bytes")
+                        .tag("method", methodName)
+                        .register(meterRegistry))
+                .record(messageLite.getSerializedSize());
+    }
+}
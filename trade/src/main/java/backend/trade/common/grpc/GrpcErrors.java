@@ -0,0 +1,42 @@
+package backend.trade.common.grpc;
+
+import backend.trade.common.exception.CustomError;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+/**
+ * CustomError 를 gRPC Status 로 변환
+ * errorCode 는 trailer 의 error-code 로 전달
+ */
+public final class GrpcErrors {
+
+    public static final Metadata.Key<String> ERROR_CODE_KEY =
+            Metadata.Key.of("error-code", Metadata.ASCII_STRING_MARSHALLER);
+
+    private GrpcErrors() {
+    }
+
+    public static StatusRuntimeException toStatusException(CustomError error) {
+        Metadata trailers = new Metadata();
+        trailers.put(ERROR_CODE_KEY, String.valueOf(error.getErrorCode()));
+        return toStatus(error).withDescription(error.getMessage()).asRuntimeException(trailers);
+    }
+
+    public static Status toStatus(CustomError error) {
+        if (error == CustomError.INVALID_ACCESS_TOKEN || error == CustomError.USER_NOT_AUTHENTICATED) {
+            return Status.UNAUTHENTICATED;
+        }
+        return switch (error.getStatusCode()) {
+            case 400 -> Status.INVALID_ARGUMENT;
+            case 401 -> Status.UNAUTHENTICATED;
+            case 403 -> Status.PERMISSION_DENIED;
+            case 404 -> Status.NOT_FOUND;
+            case 405 -> Status.UNIMPLEMENTED;
+            case 409 -> Status.ABORTED;
+            case 429 -> Status.RESOURCE_EXHAUSTED;
+            case 503 -> Status.UNAVAILABLE;
+            default -> Status.INTERNAL;
+        };
+    }
+}
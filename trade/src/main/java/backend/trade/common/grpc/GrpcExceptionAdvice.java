@@ -0,0 +1,40 @@
+package backend.trade.common.grpc;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import io.grpc.StatusRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.advice.GrpcAdvice;
+import net.devh.boot.grpc.server.advice.GrpcExceptionHandler;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * gRPC 서비스용 ControllerAdvice
+ */
+@GrpcAdvice
+@Slf4j
+public class GrpcExceptionAdvice {
+
+    @GrpcExceptionHandler(CustomException.class)
+    public StatusRuntimeException customException(CustomException e) {
+        return GrpcErrors.toStatusException(e.getCustomError());
+    }
+
+    @GrpcExceptionHandler(OptimisticLockingFailureException.class)
+    public StatusRuntimeException handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        log.warn("Optimistic locking failure :: {}", e.getMessage());
+        return GrpcErrors.toStatusException(CustomError.CONCURRENT_MODIFICATION);
+    }
+
+    @GrpcExceptionHandler({IllegalStateException.class, IllegalArgumentException.class})
+    public StatusRuntimeException handleIllegalStateException(RuntimeException e) {
+        log.error("error !", e);
+        return GrpcErrors.toStatusException(CustomError.ILLEGAL_STATE);
+    }
+
+    @GrpcExceptionHandler(Exception.class)
+    public StatusRuntimeException commonException(Exception e) {
+        log.error("error !", e);
+        return GrpcErrors.toStatusException(CustomError.SERVER_ERROR);
+    }
+}
@@ -0,0 +1,113 @@
+package backend.trade.common.grpc;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 응답이 p95 지연 시간 안에 오지 않으면 같은 요청을 한 번 더 보내고 먼저 끝난 결과를 사용
+ * 결과가 정해지면 남은 요청은 cancel (gRPC 에서는 서버에도 CANCELLED 전파)
+ */
+public class HedgedRequests {
+
+    private final ScheduledExecutorService scheduler;
+    private final LatencyTracker latencyTracker;
+    private final boolean enabled;
+    private final long minDelayMillis;
+
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    public HedgedRequests(ScheduledExecutorService scheduler, LatencyTracker latencyTracker,
+                          boolean enabled, long minDelayMillis) {
+        this.scheduler = scheduler;
+        this.latencyTracker = latencyTracker;
+        this.enabled = enabled;
+        this.minDelayMillis = minDelayMillis;
+    }
+
+    /**
+     * @param attempt 호출할 때마다 새 요청을 보내는 supplier
+     * @return 먼저 성공한 요청의 결과, 모든 요청이 실패하면 마지막 예외
+     */
+    public <T> CompletableFuture<T> call(Supplier<ListenableFuture<T>> attempt) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        List<ListenableFuture<T>> attempts = new CopyOnWriteArrayList<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+
+        send(attempt, attempts, outstanding, result, false);
+
+        if (enabled) {
+            ScheduledFuture<?> hedgeTimer = scheduler.schedule(() -> {
+                if (!result.isDone()) {
+                    hedges.increment();
+                    outstanding.incrementAndGet();
+                    send(attempt, attempts, outstanding, result, true);
+                }
+            }, hedgeDelayMillis(), TimeUnit.MILLISECONDS);
+            result.whenComplete((value, throwable) -> hedgeTimer.cancel(false));
+        }
+
+        result.whenComplete((value, throwable) -> {
+            for (ListenableFuture<T> future : attempts) {
+                if (!future.isDone()) {
+                    future.cancel(true);
+                }
+            }
+        });
+        return result;
+    }
+
+    public long getHedgeCount() {
+        return hedges.sum();
+    }
+
+    public long getHedgeWinCount() {
+        return hedgeWins.sum();
+    }
+
+    long hedgeDelayMillis() {
+        long p95 = latencyTracker.percentileNanos();
+        return Math.max(minDelayMillis, p95 < 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(p95));
+    }
+
+    private <T> void send(Supplier<ListenableFuture<T>> attempt, List<ListenableFuture<T>> attempts,
+                          AtomicInteger outstanding, CompletableFuture<T> result, boolean hedge) {
+        long startedAt = System.nanoTime();
+        ListenableFuture<T> future = attempt.get();
+        attempts.add(future);
+        if (result.isDone()) {
+            future.cancel(true);
+            return;
+        }
+
+        Futures.addCallback(future, new FutureCallback<>() {
+            @Override
+            public void onSuccess(T value) {
+                latencyTracker.record(System.nanoTime() - startedAt);
+                if (result.complete(value) && hedge) {
+                    hedgeWins.increment();
+                }
+            }
+
+            @Override
+            public void onFailure(Throwable throwable) {
+                // 다른 요청이 아직 진행 중이면 그 결과를 기다림
+                if (outstanding.decrementAndGet() == 0) {
+                    result.completeExceptionally(throwable);
+                }
+            }
+        }, MoreExecutors.directExecutor());
+    }
+}
@@ -0,0 +1,56 @@
+package backend.trade.common.grpc;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 N 개 호출의 지연 시간을 보관하고 백분위 값을 계산
+ * 백분위는 refresh-interval 마다 한 번만 다시 계산해서 호출 경로의 비용을 줄임
+ */
+public class LatencyTracker {
+
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final double percentile;
+    private final long refreshIntervalNanos;
+
+    private volatile long cachedValueNanos = -1;
+    private volatile long cachedAt;
+
+    public LatencyTracker(int capacity, double percentile, long refreshIntervalMillis) {
+        this.samples = new AtomicLongArray(capacity);
+        this.percentile = percentile;
+        this.refreshIntervalNanos = refreshIntervalMillis * 1_000_000;
+    }
+
+    public void record(long latencyNanos) {
+        long index = count.getAndIncrement();
+        samples.set((int) (index % samples.length()), latencyNanos);
+    }
+
+    /**
+     * @return 백분위 지연 시간 (nanos), 샘플이 없으면 -1
+     */
+    public long percentileNanos() {
+        long now = System.nanoTime();
+        if (cachedValueNanos >= 0 && now - cachedAt < refreshIntervalNanos) {
+            return cachedValueNanos;
+        }
+
+        int size = (int) Math.min(count.get(), samples.length());
+        if (size == 0) {
+            return -1;
+        }
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = samples.get(i);
+        }
+        Arrays.sort(copy);
+        long value = copy[Math.min(size - 1, (int) Math.ceil(percentile * size) - 1)];
+
+        cachedValueNanos = value;
+        cachedAt = now;
+        return value;
+    }
+}
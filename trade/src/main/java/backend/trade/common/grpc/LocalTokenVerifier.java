@@ -0,0 +1,158 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증 서버에서 배포한 공개키로 JWT 서명과 만료를 로컬에서 검증
+ * 공개키는 AuthClientService 가 GetSigningKeys 로 주기적으로 갱신
+ */
+@Component
+@Slf4j
+public class LocalTokenVerifier {
+
+    private final boolean enabled;
+    private final String userIdClaim;
+    private final JwtParser parser;
+
+    private volatile Map<String, PublicKey> signingKeys = Map.of();
+
+    public LocalTokenVerifier(@Value("${grpc.auth.local.enabled:false}") boolean enabled,
+                              @Value("${grpc.auth.local.user-id-claim:userId}") String userIdClaim,
+                              @Value("${grpc.auth.local.clock-skew-seconds:5}") long clockSkewSeconds) {
+        this.enabled = enabled;
+        this.userIdClaim = userIdClaim;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        PublicKey key = header.getKeyId() != null ? signingKeys.get(header.getKeyId()) : null;
+                        if (key == null) {
+                            throw new UnknownSigningKeyException(header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .setAllowedClockSkewSeconds(clockSkewSeconds)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * GetSigningKeys 응답으로 공개키 목록 교체
+     * 해석할 수 없는 키는 건너뜀 (해당 kid 토큰은 원격 검증으로 처리)
+     * @param keys
+     */
+    public void updateKeys(List<Auth.SigningKey> keys) {
+        Map<String, PublicKey> updated = new HashMap<>();
+        for (Auth.SigningKey key : keys) {
+            try {
+                updated.put(key.getKeyId(), decodePublicKey(key));
+            } catch (Exception e) {
+                log.warn("Skip signing key {} ({}) :: {}", key.getKeyId(), key.getAlgorithm(), e.getMessage());
+            }
+        }
+        this.signingKeys = Map.copyOf(updated);
+        log.info("Signing keys refreshed :: {}", updated.keySet());
+    }
+
+    /**
+     * 서명, 만료 로컬 검증
+     * @param token
+     * @return 검증 결과 (kid 를 모르면 UNKNOWN_KEY)
+     */
+    public Result verify(String token) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Long userId = readUserId(claims);
+            if (userId == null) {
+                return Result.invalid();
+            }
+            long issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() / 1000 : 0L;
+            return Result.verified(userId, claims.getId(), issuedAt);
+        } catch (UnknownSigningKeyException e) {
+            return Result.unknownKey();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("Local token verification failed :: {}", e.getMessage());
+            return Result.invalid();
+        }
+    }
+
+    private Long readUserId(Claims claims) {
+        Object value = claims.get(userIdClaim);
+        if (value == null) {
+            value = claims.getSubject();
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        if (value instanceof String text) {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private PublicKey decodePublicKey(Auth.SigningKey key) throws Exception {
+        String algorithm = key.getAlgorithm();
+        String keyAlgorithm;
+        if (algorithm.startsWith("RS") || algorithm.startsWith("PS")) {
+            keyAlgorithm = "RSA";
+        } else if (algorithm.startsWith("ES")) {
+            keyAlgorithm = "EC";
+        } else {
+            throw new IllegalArgumentException("Unsupported algorithm " + algorithm);
+        }
+        return KeyFactory.getInstance(keyAlgorithm)
+                .generatePublic(new X509EncodedKeySpec(key.getPublicKey().toByteArray()));
+    }
+
+    public enum Outcome {
+        VERIFIED,
+        INVALID,
+        UNKNOWN_KEY
+    }
+
+    public record Result(Outcome outcome, Long userId, String tokenId, long issuedAt) {
+
+        static Result verified(Long userId, String tokenId, long issuedAt) {
+            return new Result(Outcome.VERIFIED, userId, tokenId, issuedAt);
+        }
+
+        static Result invalid() {
+            return new Result(Outcome.INVALID, null, null, 0L);
+        }
+
+        static Result unknownKey() {
+            return new Result(Outcome.UNKNOWN_KEY, null, null, 0L);
+        }
+    }
+
+    private static class UnknownSigningKeyException extends RuntimeException {
+        UnknownSigningKeyException(String keyId) {
+            super("Unknown signing key :: " + keyId, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 trade 노드가 공유하는 2차 토큰 검증 캐시 (Redis)
+ * - auth:token:{hash} -> userId, TTL 은 토큰의 남은 수명
+ * - auth:user-tokens:{userId} -> 해당 사용자의 token hash 집합 (사용자 단위 폐기용)
+ * - 폐기 이벤트는 auth:revocation 채널로 전파되어 모든 노드의 L1/L2 에서 제거
+ * - 폐기 시 auth:token:{hash}:revoked / auth:user-tokens:{userId}:revoked 표시를 tombstone 동안 남기고,
+ *   표시가 있으면 저장하지 않음 (폐기 전에 시작한 검증 결과가 폐기 후에 다시 저장되지 않도록)
+ * Redis 장애 시에는 캐시 miss 로 처리하고 인증 흐름을 막지 않음
+ */
+@Component
+@Slf4j
+public class RedisTokenCache {
+
+    public static final String REVOCATION_CHANNEL = "auth:revocation";
+    public static final String TOKEN_MESSAGE_PREFIX = "token:";
+    public static final String USER_MESSAGE_PREFIX = "user:";
+
+    private static final String TOKEN_KEY_PREFIX = "auth:token:";
+    private static final String USER_KEY_PREFIX = "auth:user-tokens:";
+    private static final String REVOKED_SUFFIX = ":revoked";
+
+    // KEYS : token, token 폐기 표시, 사용자 인덱스, 사용자 폐기 표시 / ARGV : userId, ttl(ms), token hash
+    // 사용자 인덱스는 가장 늦게 만료되는 토큰보다 1초 더 유지
+    private static final DefaultRedisScript<Long> PUT_UNLESS_REVOKED = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 1 or redis.call('exists', KEYS[4]) == 1 then return 0 end " +
+                    "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+                    "redis.call('sadd', KEYS[3], ARGV[3]) " +
+                    "local indexTtl = tonumber(ARGV[2]) + 1000 " +
+                    "if redis.call('pttl', KEYS[3]) < indexTtl then redis.call('pexpire', KEYS[3], indexTtl) end " +
+                    "return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final long tombstoneMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    public RedisTokenCache(StringRedisTemplate redisTemplate,
+                           @Value("${grpc.auth.cache.redis.enabled:false}") boolean enabled,
+                           @Value("${grpc.auth.cache.redis.tombstone-ms:5000}") long tombstoneMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.tombstoneMillis = tombstoneMillis;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @param tokenHash
+     * @return 캐싱된 유효 토큰 결과, 없으면 null
+     */
+    public Auth.TokenResponse get(String tokenHash) {
+        if (!enabled) {
+            return null;
+        }
+        try {
+            String userId = redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + tokenHash);
+            if (userId == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return Auth.TokenResponse.newBuilder()
+                    .setIsValid(true)
+                    .setUserId(Long.parseLong(userId))
+                    .build();
+        } catch (Exception e) {
+            errors.increment();
+            log.warn("Redis token cache lookup failed :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 유효한 토큰만 남은 수명 동안 저장 (폐기 표시 확인, 저장, 사용자 인덱스 갱신을 스크립트 한 번으로)
+     * @param tokenHash
+     * @param response
+     * @param expiresAt epoch millis
+     * @return 폐기 표시 때문에 저장하지 않았으면 false (L1 에도 저장하지 않음)
+     */
+    public boolean put(String tokenHash, Auth.TokenResponse response, long expiresAt) {
+        long ttlMillis = expiresAt - System.currentTimeMillis();
+        if (!enabled || !response.getIsValid() || ttlMillis <= 0) {
+            return true;
+        }
+        String userKey = USER_KEY_PREFIX + response.getUserId();
+        try {
+            Long stored = redisTemplate.execute(PUT_UNLESS_REVOKED,
+                    List.of(TOKEN_KEY_PREFIX + tokenHash, TOKEN_KEY_PREFIX + tokenHash + REVOKED_SUFFIX,
+                            userKey, userKey + REVOKED_SUFFIX),
+                    String.valueOf(response.getUserId()), String.valueOf(ttlMillis), tokenHash);
+            return stored == null || stored == 1L;
+        } catch (Exception e) {
+            // Redis 장애 시에는 폐기 이벤트도 전달되지 않으므로 L1 저장은 막지 않음
+            errors.increment();
+            log.warn("Redis token cache store failed :: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 폐기 표시를 먼저 남기고 삭제 (그 사이에 끝난 저장도 함께 지워짐)
+     */
+    public void evictToken(String tokenHash) {
+        if (!enabled) {
+            return;
+        }
+        String tokenKey = TOKEN_KEY_PREFIX + tokenHash;
+        try {
+            Expiration tombstone = Expiration.milliseconds(tombstoneMillis);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                commands.set(tokenKey + REVOKED_SUFFIX, "1", tombstone, RedisStringCommands.SetOption.upsert());
+                commands.del(tokenKey);
+                return null;
+            });
+        } catch (Exception e) {
+            errors.increment();
+            log.warn("Redis token cache evict failed :: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 사용자 폐기 표시를 먼저 남긴 뒤 인덱스의 토큰을 모두 삭제
+     */
+    public void evictUser(long userId) {
+        if (!enabled) {
+            return;
+        }
+        String userKey = USER_KEY_PREFIX + userId;
+        try {
+            redisTemplate.opsForValue().set(userKey + REVOKED_SUFFIX, "1", Duration.ofMillis(tombstoneMillis));
+            Set<String> tokenHashes = redisTemplate.opsForSet().members(userKey);
+            List<String> keys = new ArrayList<>();
+            if (tokenHashes != null) {
+                tokenHashes.forEach(hash -> keys.add(TOKEN_KEY_PREFIX + hash));
+            }
+            keys.add(userKey);
+            redisTemplate.delete(keys);
+        } catch (Exception e) {
+            errors.increment();
+            log.warn("Redis token cache evict failed for user {} :: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 노드에 토큰 폐기 전파
+     * @param tokenHash
+     */
+    public void publishTokenRevocation(String tokenHash) {
+        if (enabled) {
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, TOKEN_MESSAGE_PREFIX + tokenHash);
+        }
+    }
+
+    /**
+     * 모든 노드에 사용자 단위 폐기 전파
+     * @param userId
+     */
+    public void publishUserRevocation(long userId) {
+        if (enabled) {
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, USER_MESSAGE_PREFIX + userId);
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+}
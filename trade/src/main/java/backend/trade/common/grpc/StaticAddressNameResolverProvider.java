@@ -0,0 +1,98 @@
+package backend.trade.common.grpc;
+
+import io.grpc.EquivalentAddressGroup;
+import io.grpc.NameResolver;
+import io.grpc.NameResolverProvider;
+import io.grpc.Status;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * "static://authority/host1:port1,host2:port2" 형식의 target 을 고정 주소 목록으로 해석
+ * 주소마다 subchannel 이 생성되어 load balancing policy 로 분산됨
+ * authority 는 TLS 호스트 이름 검증, :authority 헤더에 쓰이며 없으면 첫 번째 주소
+ * 호스트 이름은 시작할 때와 refresh (연결이 끊겨 load balancer 가 다시 요청할 때) 마다 다시 조회
+ */
+public class StaticAddressNameResolverProvider extends NameResolverProvider {
+
+    public static final String SCHEME = "static";
+
+    /**
+     * @param authority null 이거나 비어 있으면 첫 번째 주소
+     */
+    public static String target(String authority, List<String> addresses) {
+        return SCHEME + "://" + (authority == null ? "" : authority) + "/" + String.join(",", addresses);
+    }
+
+    @Override
+    public NameResolver newNameResolver(URI targetUri, NameResolver.Args args) {
+        if (!SCHEME.equals(targetUri.getScheme())) {
+            return null;
+        }
+        String[] addresses = targetUri.getPath().substring(1).split(",");
+        String authority = targetUri.getAuthority() == null || targetUri.getAuthority().isEmpty()
+                ? addresses[0] : targetUri.getAuthority();
+
+        return new NameResolver() {
+            private Listener2 listener;
+
+            @Override
+            public String getServiceAuthority() {
+                return authority;
+            }
+
+            @Override
+            public void start(Listener2 listener) {
+                this.listener = listener;
+                resolve();
+            }
+
+            @Override
+            public void refresh() {
+                if (listener != null) {
+                    resolve();
+                }
+            }
+
+            // InetSocketAddress 생성 시 DNS 조회
+            private void resolve() {
+                List<EquivalentAddressGroup> groups = new ArrayList<>();
+                for (String address : addresses) {
+                    int separator = address.lastIndexOf(':');
+                    InetSocketAddress socketAddress = new InetSocketAddress(
+                            address.substring(0, separator), Integer.parseInt(address.substring(separator + 1)));
+                    if (!socketAddress.isUnresolved()) {
+                        groups.add(new EquivalentAddressGroup(socketAddress));
+                    }
+                }
+                if (groups.isEmpty()) {
+                    listener.onError(Status.UNAVAILABLE.withDescription("No resolvable address in " + targetUri));
+                    return;
+                }
+                listener.onResult(ResolutionResult.newBuilder().setAddresses(groups).build());
+            }
+
+            @Override
+            public void shutdown() {
+            }
+        };
+    }
+
+    @Override
+    public String getDefaultScheme() {
+        return SCHEME;
+    }
+
+    @Override
+    protected boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    protected int priority() {
+        return 5;
+    }
+}
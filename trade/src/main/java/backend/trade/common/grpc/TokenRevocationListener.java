@@ -0,0 +1,42 @@
+package backend.trade.common.grpc;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * auth:revocation 채널의 로그아웃/폐기 이벤트를 받아 L1, L2 캐시에서 제거
+ * - token:{hash} : 토큰 하나
+ * - user:{userId} : 사용자의 모든 토큰
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TokenRevocationListener implements MessageListener {
+
+    private final TokenVerificationCache tokenCache;
+    private final RedisTokenCache redisTokenCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            if (body.startsWith(RedisTokenCache.TOKEN_MESSAGE_PREFIX)) {
+                String tokenHash = body.substring(RedisTokenCache.TOKEN_MESSAGE_PREFIX.length());
+                // 폐기 표시를 먼저 남겨서 진행 중인 검증이 L1 에 다시 저장하지 않도록
+                redisTokenCache.evictToken(tokenHash);
+                tokenCache.invalidate(tokenHash);
+            } else if (body.startsWith(RedisTokenCache.USER_MESSAGE_PREFIX)) {
+                long userId = Long.parseLong(body.substring(RedisTokenCache.USER_MESSAGE_PREFIX.length()));
+                redisTokenCache.evictUser(userId);
+                tokenCache.invalidateUser(userId);
+            } else {
+                log.warn("Unknown revocation message :: {}", body);
+            }
+        } catch (Exception e) {
+            log.error("Error handling revocation message {} :: {}", body, e.getMessage());
+        }
+    }
+}
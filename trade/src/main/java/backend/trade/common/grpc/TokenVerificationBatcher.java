@@ -0,0 +1,154 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 동시에 들어온 토큰 검증 요청을 모아 VerifyTokens 한 번으로 전송
+ * 첫 요청이 들어온 뒤 max-size 개가 모이거나 max-wait 가 지나면 전송
+ * 전송은 별도 sender 스레드에서 수행하므로 다음 배치 수집을 막지 않음
+ */
+@Slf4j
+public class TokenVerificationBatcher implements AutoCloseable {
+
+    private final Function<Auth.TokenBatchRequest, Auth.TokenBatchResponse> sender;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService senderExecutor;
+    private final Thread collector;
+    private volatile boolean running = true;
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder batchedTokens = new LongAdder();
+
+    public TokenVerificationBatcher(Function<Auth.TokenBatchRequest, Auth.TokenBatchResponse> sender,
+                                    int maxBatchSize, long maxWaitMicros, int senderThreads) {
+        this.sender = sender;
+        this.maxBatchSize = maxBatchSize;
+        this.maxWaitNanos = TimeUnit.MICROSECONDS.toNanos(maxWaitMicros);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senderExecutor = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "auth-batch-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.collector = new Thread(this::collect, "auth-batch-collector");
+        this.collector.setDaemon(true);
+        this.collector.start();
+    }
+
+    /**
+     * @param token
+     * @return 배치 전송 후 완료되는 검증 결과
+     */
+    public CompletableFuture<Auth.TokenResponse> submit(String token) {
+        CompletableFuture<Auth.TokenResponse> future = new CompletableFuture<>();
+        if (!running) {
+            future.completeExceptionally(new IllegalStateException("Token verification batcher is closed"));
+            return future;
+        }
+        queue.add(new Pending(token, future));
+        return future;
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getBatchedTokenCount() {
+        return batchedTokens.sum();
+    }
+
+    private void collect() {
+        while (running) {
+            try {
+                Pending first = queue.take();
+                List<Pending> batch = new ArrayList<>(maxBatchSize);
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxWaitNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        queue.drainTo(batch, maxBatchSize - batch.size());
+                        break;
+                    }
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                senderExecutor.execute(() -> send(batch));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Error collecting token batch :: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void send(List<Pending> batch) {
+        Auth.TokenBatchRequest.Builder request = Auth.TokenBatchRequest.newBuilder();
+        for (Pending pending : batch) {
+            request.addTokens(pending.token);
+        }
+
+        try {
+            Auth.TokenBatchResponse response = sender.apply(request.build());
+            batches.increment();
+            batchedTokens.add(batch.size());
+
+            for (Auth.TokenBatchResult result : response.getResultsList()) {
+                int index = result.getIndex();
+                if (index >= 0 && index < batch.size()) {
+                    batch.get(index).future.complete(result.getResponse());
+                }
+            }
+            for (Pending pending : batch) {
+                if (!pending.future.isDone()) {
+                    pending.future.completeExceptionally(
+                            new IllegalStateException("Missing result in VerifyTokens response"));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error verifying token batch of {} :: {}", batch.size(), e.getMessage());
+            for (Pending pending : batch) {
+                pending.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        collector.interrupt();
+        senderExecutor.shutdown();
+
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (Pending pending : remaining) {
+            pending.future.completeExceptionally(new IllegalStateException("Token verification batcher is closed"));
+        }
+    }
+
+    private record Pending(String token, CompletableFuture<Auth.TokenResponse> future) {
+    }
+}
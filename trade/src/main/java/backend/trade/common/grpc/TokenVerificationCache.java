@@ -0,0 +1,275 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.io.Decoders;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * VerifyToken 결과를 프로세스 내부에 캐싱
+ * - key : token 의 SHA-256 해시 (원본 token 은 메모리에 보관하지 않음)
+ * - 유효한 토큰 : JWT exp claim 과 max-ttl 중 먼저 도래하는 시각에 만료
+ * - 유효하지 않은 토큰 : negative-ttl 동안 별도 영역에 캐싱
+ * - 각 영역은 max-size 를 넘으면 가장 오래 사용되지 않은 항목부터 제거 (LRU), 만료된 항목은 조회 시 제거
+ */
+@Component
+@Slf4j
+public class TokenVerificationCache {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final boolean enabled;
+    private final long maxTtlMillis;
+    private final long negativeTtlMillis;
+    private final Clock clock;
+
+    private final Region positive;
+    private final Region negative;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder negativeHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public TokenVerificationCache(@Value("${grpc.auth.cache.enabled:true}") boolean enabled,
+                                  @Value("${grpc.auth.cache.max-size:10000}") int maxSize,
+                                  @Value("${grpc.auth.cache.negative-max-size:1000}") int negativeMaxSize,
+                                  @Value("${grpc.auth.cache.max-ttl-seconds:300}") long maxTtlSeconds,
+                                  @Value("${grpc.auth.cache.negative-ttl-seconds:30}") long negativeTtlSeconds) {
+        this(enabled, maxSize, negativeMaxSize, maxTtlSeconds * 1000, negativeTtlSeconds * 1000, Clock.systemUTC());
+    }
+
+    TokenVerificationCache(boolean enabled, int maxSize, int negativeMaxSize,
+                           long maxTtlMillis, long negativeTtlMillis, Clock clock) {
+        this.enabled = enabled;
+        this.maxTtlMillis = maxTtlMillis;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.clock = clock;
+        this.positive = new Region(boundedMap(maxSize));
+        this.negative = new Region(boundedMap(negativeMaxSize));
+    }
+
+    /**
+     * 캐싱된 검증 결과 조회
+     * @param tokenHash
+     * @return 캐시에 없거나 만료되었으면 null
+     */
+    public Auth.TokenResponse get(String tokenHash) {
+        if (!enabled) {
+            return null;
+        }
+        long now = clock.millis();
+
+        Auth.TokenResponse response = lookup(positive, tokenHash, now);
+        if (response != null) {
+            hits.increment();
+            return response;
+        }
+        response = lookup(negative, tokenHash, now);
+        if (response != null) {
+            negativeHits.increment();
+            return response;
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 검증 결과 저장
+     * 유효한 토큰이라도 exp 가 이미 지났으면 저장하지 않음
+     * @param tokenHash
+     * @param token exp claim 을 읽기 위한 원본 token
+     * @param response
+     */
+    public void put(String tokenHash, String token, Auth.TokenResponse response) {
+        if (!enabled) {
+            return;
+        }
+        long now = clock.millis();
+
+        if (!response.getIsValid()) {
+            store(negative, tokenHash, new Entry(response, now + negativeTtlMillis));
+            return;
+        }
+
+        long expiresAt = expiresAt(token, now);
+        if (expiresAt > now) {
+            store(positive, tokenHash, new Entry(response, expiresAt));
+        }
+    }
+
+    /**
+     * 유효한 토큰의 캐시 만료 시각 (exp claim 과 max-ttl 중 먼저 도래하는 시각)
+     * @param token
+     * @param now epoch millis
+     * @return epoch millis
+     */
+    public long expiresAt(String token, long now) {
+        long expiresAt = now + maxTtlMillis;
+        Long tokenExpiry = readExpiryMillis(token);
+        if (tokenExpiry != null) {
+            expiresAt = Math.min(expiresAt, tokenExpiry);
+        }
+        return expiresAt;
+    }
+
+    public void invalidate(String tokenHash) {
+        positive.lock.lock();
+        try {
+            positive.map.remove(tokenHash);
+        } finally {
+            positive.lock.unlock();
+        }
+        negative.lock.lock();
+        try {
+            negative.map.remove(tokenHash);
+        } finally {
+            negative.lock.unlock();
+        }
+    }
+
+    /**
+     * 사용자의 모든 토큰 검증 결과 제거 (로그아웃, 계정 정지 등)
+     * @param userId
+     */
+    public void invalidateUser(long userId) {
+        positive.lock.lock();
+        try {
+            positive.map.values().removeIf(entry -> entry.response.getUserId() == userId);
+        } finally {
+            positive.lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getNegativeHitCount() {
+        return negativeHits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hitCount = hits.sum() + negativeHits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        positive.lock.lock();
+        try {
+            return positive.map.size();
+        } finally {
+            positive.lock.unlock();
+        }
+    }
+
+    /**
+     * token 해시 (hex) - 캐시 key 로 사용
+     * @param token
+     * @return SHA-256 hex
+     */
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 서명 검증 없이 payload 의 exp claim 만 읽음 (검증은 인증 서버의 몫)
+     * @param token
+     * @return exp (epoch millis), 읽을 수 없으면 null
+     */
+    static Long readExpiryMillis(String token) {
+        try {
+            String[] parts = token.split("\\.");
+            if (parts.length < 2) {
+                return null;
+            }
+            byte[] payload = Decoders.BASE64URL.decode(parts[1]);
+            JsonNode exp = OBJECT_MAPPER.readTree(payload).get("exp");
+            return exp != null && exp.canConvertToLong() ? exp.asLong() * 1000 : null;
+        } catch (Exception e) {
+            log.debug("Failed to read exp claim :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private Auth.TokenResponse lookup(Region region, String tokenHash, long now) {
+        region.lock.lock();
+        try {
+            Entry entry = region.map.get(tokenHash);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt <= now) {
+                region.map.remove(tokenHash);
+                evictions.increment();
+                return null;
+            }
+            return entry.response;
+        } finally {
+            region.lock.unlock();
+        }
+    }
+
+    private void store(Region region, String tokenHash, Entry entry) {
+        region.lock.lock();
+        try {
+            region.map.put(tokenHash, entry);
+        } finally {
+            region.lock.unlock();
+        }
+    }
+
+    private Map<String, Entry> boundedMap(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                // 넣을 때마다 O(1) : 가장 오래 사용되지 않은 항목 하나만 제거 (만료된 항목은 조회할 때 제거)
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    private record Entry(Auth.TokenResponse response, long expiresAt) {
+    }
+
+    /**
+     * LRU map 과 그 lock
+     * synchronized 대신 ReentrantLock : virtual thread 에서 lock 대기 중에 carrier thread 를 점유(pinning)하지 않도록
+     */
+    private record Region(Map<String, Entry> map, ReentrantLock lock) {
+        Region(Map<String, Entry> map) {
+            this(map, new ReentrantLock());
+        }
+    }
+}
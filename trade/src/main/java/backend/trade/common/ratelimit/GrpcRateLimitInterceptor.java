@@ -0,0 +1,97 @@
+package backend.trade.common.ratelimit;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.grpc.GrpcAuthContext;
+import backend.trade.common.grpc.GrpcErrors;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.StatusRuntimeException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import net.devh.boot.grpc.common.util.InterceptorOrder;
+import net.devh.boot.grpc.server.interceptor.GrpcGlobalServerInterceptor;
+import org.springframework.core.annotation.Order;
+
+/**
+ * gRPC 주문 등록/상태 변경 호출도 REST 와 같은 규칙, 같은 bucket 으로 요청 수 제한
+ * 인증 interceptor 다음에 실행되어 GrpcAuthContext 의 userId 로 제한 (인증되지 않은 호출은 통과)
+ * 요청 메시지마다 token 하나를 소비해서 SubmitOrders stream 도 주문 건수만큼 제한,
+ * 초과하면 RESOURCE_EXHAUSTED 와 retry-after trailer(초) 로 호출을 닫음 (stream 이면 ack 받지 못한 주문은 다시 보내야 함)
+ */
+@GrpcGlobalServerInterceptor
+@Order(InterceptorOrder.ORDER_SECURITY_AUTHORISATION)
+@RequiredArgsConstructor
+public class GrpcRateLimitInterceptor implements ServerInterceptor {
+
+    static final Metadata.Key<String> RETRY_AFTER_KEY =
+            Metadata.Key.of("retry-after", Metadata.ASCII_STRING_MARSHALLER);
+
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        RateLimitProperties.Rule rule = rateLimiter.findGrpcRule(call.getMethodDescriptor().getFullMethodName());
+        Long userId = GrpcAuthContext.currentUserId();
+        if (rule == null || userId == null) {
+            return next.startCall(call, headers);
+        }
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+            private boolean rejected;
+
+            @Override
+            public void onMessage(ReqT message) {
+                if (rejected) {
+                    return;
+                }
+                long retryAfterMillis = rateLimiter.tryAcquire(rule, userId);
+                if (retryAfterMillis > 0) {
+                    rejected = true;
+                    reject(call, rule, retryAfterMillis);
+                    // 서비스 쪽 stream 상태도 정리되도록 취소로 전달
+                    super.onCancel();
+                    return;
+                }
+                super.onMessage(message);
+            }
+
+            @Override
+            public void onHalfClose() {
+                if (!rejected) {
+                    super.onHalfClose();
+                }
+            }
+
+            @Override
+            public void onReady() {
+                if (!rejected) {
+                    super.onReady();
+                }
+            }
+
+            @Override
+            public void onCancel() {
+                if (!rejected) {
+                    super.onCancel();
+                }
+            }
+        };
+    }
+
+    private void reject(ServerCall<?, ?> call, RateLimitProperties.Rule rule, long retryAfterMillis) {
+        Counter.builder("trade.rate_limit.rejected")
+                .tag("rule", rule.getName())
+                .register(meterRegistry)
+                .increment();
+        StatusRuntimeException exception = GrpcErrors.toStatusException(CustomError.RATE_LIMITED);
+        Metadata trailers = exception.getTrailers();
+        trailers.put(RETRY_AFTER_KEY, String.valueOf(RateLimitExceededException.toRetryAfterSeconds(retryAfterMillis)));
+        call.close(exception.getStatus(), trailers);
+    }
+}
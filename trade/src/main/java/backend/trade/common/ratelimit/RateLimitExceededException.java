@@ -0,0 +1,27 @@
+package backend.trade.common.ratelimit;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import lombok.Getter;
+
+/**
+ * 요청 수 제한 초과, ControllerAdvice 에서 Retry-After 헤더와 함께 429 로 응답
+ */
+@Getter
+public class RateLimitExceededException extends CustomException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(long retryAfterMillis) {
+        super(CustomError.RATE_LIMITED);
+        this.retryAfterSeconds = toRetryAfterSeconds(retryAfterMillis);
+    }
+
+    /**
+     * @param retryAfterMillis
+     * @return 올림한 초 (최소 1)
+     */
+    static long toRetryAfterSeconds(long retryAfterMillis) {
+        return Math.max(1, (retryAfterMillis + 999) / 1000);
+    }
+}
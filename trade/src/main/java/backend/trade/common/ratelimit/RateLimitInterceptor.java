@@ -0,0 +1,52 @@
+package backend.trade.common.ratelimit;
+
+import backend.trade.common.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * controller 실행 전(트랜잭션, DB 작업 전)에 인증된 사용자, 경로별 요청 수 제한
+ * 규칙이 없는 경로나 인증되지 않은 요청은 통과 (인증 실패는 security 에서 처리)
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return true;
+        }
+        RateLimitProperties.Rule rule = rateLimiter.findRule(request.getMethod(), pattern.toString());
+        if (rule == null) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return true;
+        }
+
+        long retryAfterMillis = rateLimiter.tryAcquire(rule, user.getUserId());
+        if (retryAfterMillis > 0) {
+            Counter.builder("trade.rate_limit.rejected")
+                    .tag("rule", rule.getName())
+                    .register(meterRegistry)
+                    .increment();
+            throw new RateLimitExceededException(retryAfterMillis);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+package backend.trade.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 요청 수 제한 설정 (trade.rate-limit)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "trade.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * true 면 노드별 소비량을 Redis 에 모아서 모든 노드가 같은 한도를 나눠 씀
+     * false 면 노드마다 따로 제한
+     */
+    private boolean redisEnabled = false;
+
+    /**
+     * 다른 노드의 소비량을 반영하는 주기 (이 시간만큼은 한도를 넘을 수 있음)
+     */
+    private long syncIntervalMs = 1000;
+
+    /**
+     * 이 시간 동안 요청이 없는 사용자의 bucket 은 메모리에서 제거
+     */
+    private long idleEvictMs = 600_000;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * metric tag, Redis key 에 사용
+         */
+        private String name;
+
+        /**
+         * REST 규칙이 아니면 비워둠
+         */
+        private String method;
+
+        /**
+         * controller 의 mapping pattern (예: /api/order/detail/{orderId})
+         */
+        private String path;
+
+        /**
+         * 같은 bucket 을 나눠 쓰는 gRPC 메서드 (full method name, 예: trade.TradeService/CreateOrder)
+         * 요청 메시지 하나마다 token 하나를 소비
+         */
+        private List<String> grpcMethods = new ArrayList<>();
+
+        /**
+         * 순간적으로 허용하는 최대 요청 수
+         */
+        private int capacity;
+
+        /**
+         * 초당 보충되는 요청 수 (지속 가능한 처리량)
+         */
+        private double refillPerSecond;
+    }
+}
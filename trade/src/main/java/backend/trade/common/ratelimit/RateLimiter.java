@@ -0,0 +1,161 @@
+package backend.trade.common.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자, 규칙별 token bucket 으로 요청 수 제한
+ * 요청 경로에서는 로컬 bucket 만 확인하고 (Redis 왕복 없음),
+ * sync-interval 마다 노드별 소비량을 Redis ratelimit:{rule}:{userId} 에 INCRBY 로 모아 다른 노드의 소비분을 차감
+ * -> 클러스터 전체 한도는 최대 sync-interval 만큼 늦게 반영됨
+ * Redis 장애 시에는 노드별 제한으로 동작
+ */
+@Component
+@Slf4j
+public class RateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final long KEY_TTL_SECONDS = 3600;
+
+    private final StringRedisTemplate redisTemplate;
+    private final boolean redisEnabled;
+    private final long idleNanos;
+    private final LongSupplier clock;
+    private final Map<String, RateLimitProperties.Rule> rules = new HashMap<>();
+    private final Map<String, RateLimitProperties.Rule> grpcRules = new HashMap<>();
+    private final ConcurrentHashMap<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        this(redisTemplate, properties, System::nanoTime);
+    }
+
+    RateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties, LongSupplier clock) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = properties.isRedisEnabled();
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(properties.getIdleEvictMs());
+        this.clock = clock;
+        if (properties.isEnabled()) {
+            for (RateLimitProperties.Rule rule : properties.getRules()) {
+                if (rule.getCapacity() <= 0 || rule.getRefillPerSecond() <= 0) {
+                    throw new IllegalArgumentException("trade.rate-limit rule " + rule.getName() + " needs positive capacity and refill-per-second");
+                }
+                if (rule.getMethod() != null && rule.getPath() != null) {
+                    rules.put(ruleKey(rule.getMethod(), rule.getPath()), rule);
+                }
+                for (String grpcMethod : rule.getGrpcMethods()) {
+                    grpcRules.put(grpcMethod, rule);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param method HTTP method
+     * @param path controller mapping pattern
+     * @return 적용할 규칙, 없으면 null
+     */
+    public RateLimitProperties.Rule findRule(String method, String path) {
+        return rules.isEmpty() ? null : rules.get(ruleKey(method, path));
+    }
+
+    /**
+     * @param fullMethodName gRPC full method name (service/method)
+     * @return 적용할 규칙, 없으면 null
+     */
+    public RateLimitProperties.Rule findGrpcRule(String fullMethodName) {
+        return grpcRules.isEmpty() ? null : grpcRules.get(fullMethodName);
+    }
+
+    /**
+     * @param rule
+     * @param userId
+     * @return 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 millis
+     */
+    public long tryAcquire(RateLimitProperties.Rule rule, long userId) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = buckets.computeIfAbsent(new BucketKey(rule.getName(), userId),
+                key -> new TokenBucket(rule.getCapacity(), rule.getRefillPerSecond(), now));
+        long waitNanos = bucket.tryConsume(now);
+        return waitNanos == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+    }
+
+    /**
+     * 노드별 소비량을 Redis 에 보고하고 다른 노드의 소비분 반영, 오래 쓰지 않은 bucket 정리
+     */
+    @Scheduled(fixedDelayString = "${trade.rate-limit.sync-interval-ms:1000}")
+    public void sync() {
+        if (redisEnabled && !buckets.isEmpty()) {
+            report();
+        }
+        // 보고한 뒤에 정리 (제거되는 bucket 의 소비량도 반영되도록)
+        long now = clock.getAsLong();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now, idleNanos));
+    }
+
+    private void report() {
+        List<BucketKey> keys = new ArrayList<>();
+        List<TokenBucket> targets = new ArrayList<>();
+        List<Long> reported = new ArrayList<>();
+        buckets.forEach((key, bucket) -> {
+            keys.add(key);
+            targets.add(bucket);
+            reported.add(bucket.drainUnreported());
+        });
+
+        List<Object> totals;
+        try {
+            // INCRBY 0 도 보내서 다른 노드의 소비량을 받아옴
+            totals = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                for (int i = 0; i < keys.size(); i++) {
+                    String redisKey = KEY_PREFIX + keys.get(i).rule() + ":" + keys.get(i).userId();
+                    commands.incrBy(redisKey, reported.get(i));
+                    if (reported.get(i) > 0) {
+                        commands.expire(redisKey, KEY_TTL_SECONDS);
+                    }
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            // 보고하지 못한 소비량은 다음 동기화 때 다시 보고
+            for (int i = 0; i < targets.size(); i++) {
+                targets.get(i).restoreUnreported(reported.get(i));
+            }
+            log.warn("Rate limit sync with Redis failed :: {}", e.getMessage());
+            return;
+        }
+
+        long appliedAt = clock.getAsLong();
+        int index = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Object total = totals.get(index++);
+            if (reported.get(i) > 0) {
+                index++; // expire 결과
+            }
+            targets.get(i).applyClusterTotal((Long) total, reported.get(i), appliedAt);
+        }
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private static String ruleKey(String method, String path) {
+        return method.toUpperCase() + " " + path;
+    }
+
+    private record BucketKey(String rule, long userId) {
+    }
+}
@@ -0,0 +1,117 @@
+package backend.trade.common.ratelimit;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 한 명, 규칙 하나의 token bucket
+ * - 요청마다 token 하나를 소비, capacity 까지 refillPerSecond 속도로 보충
+ * - Redis 동기화 시 다른 노드가 소비한 만큼 차감 (음수가 되면 보충될 때까지 거절)
+ */
+final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private double tokens;
+    private long refilledAt;
+    private long lastUsedAt;
+    /** 아직 Redis 에 보고하지 않은 이 노드의 소비량 */
+    private long unreported;
+    /** 마지막으로 확인한 클러스터 전체 소비량, 아직 모르면 -1 */
+    private long clusterTotal = -1;
+
+    TokenBucket(int capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.refilledAt = now;
+        this.lastUsedAt = now;
+    }
+
+    /**
+     * @param now System.nanoTime()
+     * @return 허용하면 0, 거절하면 token 하나가 보충될 때까지 남은 nanos
+     */
+    long tryConsume(long now) {
+        lock.lock();
+        try {
+            refill(now);
+            lastUsedAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                unreported++;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / refillPerNano);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Redis 에 보고할 소비량 (호출 후 0 으로 초기화)
+     */
+    long drainUnreported() {
+        lock.lock();
+        try {
+            long consumed = unreported;
+            unreported = 0;
+            return consumed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Redis 보고에 실패한 소비량을 되돌림
+     * @param consumed drainUnreported 로 꺼낸 값
+     */
+    void restoreUnreported(long consumed) {
+        lock.lock();
+        try {
+            unreported += consumed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 보고 후 받은 클러스터 전체 소비량으로 다른 노드의 소비분을 차감
+     * @param total 보고한 뒤의 전체 소비량
+     * @param reported 이번에 보고한 이 노드의 소비량
+     * @param now System.nanoTime()
+     */
+    void applyClusterTotal(long total, long reported, long now) {
+        lock.lock();
+        try {
+            if (clusterTotal >= 0) {
+                long others = total - clusterTotal - reported;
+                if (others > 0) {
+                    refill(now);
+                    // 한 번에 capacity 이상 빚지지 않도록 (보충 시간이 한없이 길어지지 않게)
+                    tokens = Math.max(-capacity, tokens - others);
+                }
+            }
+            clusterTotal = total;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean isIdle(long now, long idleNanos) {
+        lock.lock();
+        try {
+            return now - lastUsedAt > idleNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void refill(long now) {
+        if (now > refilledAt) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+        }
+    }
+}
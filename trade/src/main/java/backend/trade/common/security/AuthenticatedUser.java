@@ -0,0 +1,15 @@
+package backend.trade.common.security;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 인증 서버에서 검증된 사용자 (SecurityContext 의 principal)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class AuthenticatedUser {
+    private final Long userId;
+}
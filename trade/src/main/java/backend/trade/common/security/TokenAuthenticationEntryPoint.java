@@ -0,0 +1,35 @@
+package backend.trade.common.security;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.ErrorDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.AuthenticationEntryPoint;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인증되지 않은 요청을 ControllerAdvice 와 같은 ErrorDto 형식으로 응답
+ */
+@RequiredArgsConstructor
+public class TokenAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void commence(HttpServletRequest request, HttpServletResponse response,
+                         AuthenticationException authException) throws IOException {
+        Object attribute = request.getAttribute(TokenAuthenticationFilter.AUTH_ERROR_ATTRIBUTE);
+        CustomError error = attribute instanceof CustomError customError ? customError : CustomError.INVALID_ACCESS_TOKEN;
+
+        response.setStatus(error.getStatusCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), ErrorDto.createErrorDto(error));
+    }
+}
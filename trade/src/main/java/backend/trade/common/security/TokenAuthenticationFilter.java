@@ -0,0 +1,68 @@
+package backend.trade.common.security;
+
+import auth.Auth;
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import backend.trade.common.grpc.AuthClientService;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청당 한 번만 VerifyToken 을 호출하고 검증된 userId 를 SecurityContext 에 저장
+ * 검증에 실패하면 인증 정보 없이 다음 필터로 넘기고, 실패 원인은 request attribute 로 남겨
+ * {@link TokenAuthenticationEntryPoint} 에서 응답으로 변환
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    public static final String AUTH_ERROR_ATTRIBUTE = TokenAuthenticationFilter.class.getName() + ".AUTH_ERROR";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthClientService authClientService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String authorizationHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
+            try {
+                authenticate(authorizationHeader.substring(BEARER_PREFIX.length()));
+            } catch (CustomException e) {
+                request.setAttribute(AUTH_ERROR_ATTRIBUTE, e.getCustomError());
+            } catch (Exception e) {
+                log.error("Error verifying token :: {}", e.getMessage());
+                request.setAttribute(AUTH_ERROR_ATTRIBUTE, CustomError.SERVER_ERROR);
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticate(String token) {
+        Auth.TokenResponse tokenResponse = authClientService.verify(token);
+        if (!tokenResponse.getIsValid()) {
+            throw new CustomException(CustomError.INVALID_ACCESS_TOKEN);
+        }
+
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                new AuthenticatedUser(tokenResponse.getUserId()), null, AuthorityUtils.NO_AUTHORITIES);
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+    }
+}
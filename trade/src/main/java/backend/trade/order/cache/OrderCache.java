@@ -0,0 +1,309 @@
+package backend.trade.order.cache;
+
+import backend.trade.common.concurrent.SingleFlight;
+import backend.trade.order.model.Order;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 주문 단건 조회 read-through 캐시
+ * - L1 : 프로세스 내부, local-ttl 동안만 보관 (다른 노드의 변경은 최대 local-ttl 늦게 반영)
+ * - L2 : Redis order:{id} -> 주문 JSON, ttl 동안 보관
+ * - 둘 다 없으면 같은 주문에 대한 동시 조회를 하나로 합쳐서 DB 를 한 번만 읽음 (stampede 방지)
+ *
+ * 주문을 변경/삭제하는 트랜잭션은 commit 이후에 evict (evictAfterCommit)
+ * - commit 전에 DB 를 읽은 조회가 evict 뒤에 옛 값을 다시 넣지 않도록
+ *   evict 시 order:{id}:evicted 표시를 tombstone 동안 남기고, 표시가 있으면 L2 에 저장하지 않음 (L1 에도 저장하지 않음)
+ * - 이 노드에서 evict 가 일어나는 동안 읽은 값은 L1 에 저장하지 않음 (evictions 세대 비교)
+ * Redis 장애 시에는 캐시 miss 로 처리하고 조회 흐름을 막지 않음
+ */
+@Component
+@Slf4j
+public class OrderCache {
+
+    private static final String KEY_PREFIX = "order:";
+    private static final String EVICTED_SUFFIX = ":evicted";
+
+    /** KEYS[1] 주문 key, KEYS[2] evict 표시 key, ARGV[1] 값, ARGV[2] ttl millis */
+    private static final DefaultRedisScript<Long> PUT_UNLESS_EVICTED = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 1 then return 0 end " +
+                    "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) return 1", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final long localTtlMillis;
+    private final long tombstoneMillis;
+    private final Clock clock;
+
+    private final Map<String, Entry> local;
+    // synchronized 대신 사용 (virtual thread 가 lock 대기 중 carrier thread 를 점유하지 않도록)
+    private final ReentrantLock localLock = new ReentrantLock();
+    private final SingleFlight<String, Optional<OrderSnapshot>> loads = new SingleFlight<>();
+    // evict 할 때마다 증가, 조회를 시작한 뒤 evict 가 있었으면 읽은 값을 L1 에 넣지 않음
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final LongAdder localHits = new LongAdder();
+    private final LongAdder localMisses = new LongAdder();
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+    private final LongAdder redisErrors = new LongAdder();
+
+    public OrderCache(StringRedisTemplate redisTemplate,
+                      ObjectMapper objectMapper,
+                      @Value("${trade.order.cache.enabled:false}") boolean enabled,
+                      @Value("${trade.order.cache.ttl-seconds:60}") long ttlSeconds,
+                      @Value("${trade.order.cache.local-ttl-ms:1000}") long localTtlMillis,
+                      @Value("${trade.order.cache.local-max-size:10000}") int localMaxSize,
+                      @Value("${trade.order.cache.tombstone-ms:2000}") long tombstoneMillis) {
+        this(redisTemplate, objectMapper, enabled, ttlSeconds * 1000, localTtlMillis, localMaxSize, tombstoneMillis,
+                Clock.systemUTC());
+    }
+
+    OrderCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, boolean enabled,
+               long ttlMillis, long localTtlMillis, int localMaxSize, long tombstoneMillis, Clock clock) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.localTtlMillis = localTtlMillis;
+        this.tombstoneMillis = tombstoneMillis;
+        this.clock = clock;
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > localMaxSize;
+            }
+        };
+    }
+
+    /**
+     * @param orderId
+     * @param loader 캐시에 없을 때 DB 조회
+     * @return 주문 (호출마다 새 인스턴스), 없으면 empty
+     */
+    public Optional<Order> get(String orderId, Supplier<Optional<Order>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        OrderSnapshot snapshot = getLocal(orderId);
+        if (snapshot == null) {
+            long generation = evictions.get();
+            snapshot = getRedis(orderId);
+            if (snapshot == null) {
+                snapshot = loads.execute(orderId, () -> load(orderId, loader)).orElse(null);
+            } else {
+                putLocal(orderId, snapshot, generation);
+            }
+        }
+        return Optional.ofNullable(snapshot).map(OrderSnapshot::toOrder);
+    }
+
+    /**
+     * 현재 트랜잭션이 commit 된 뒤에 evict, 트랜잭션 밖이면 바로 evict
+     * @param orderId
+     */
+    public void evictAfterCommit(String orderId) {
+        evictAfterCommit(List.of(orderId));
+    }
+
+    public void evictAfterCommit(Collection<String> orderIds) {
+        if (!enabled || orderIds.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(orderIds);
+            return;
+        }
+        List<String> ids = List.copyOf(orderIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(ids);
+            }
+        });
+    }
+
+    public void evict(Collection<String> orderIds) {
+        localLock.lock();
+        try {
+            evictions.incrementAndGet();
+            orderIds.forEach(local::remove);
+        } finally {
+            localLock.unlock();
+        }
+        try {
+            Expiration tombstone = Expiration.milliseconds(tombstoneMillis);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection commands = (StringRedisConnection) connection;
+                for (String orderId : orderIds) {
+                    commands.del(KEY_PREFIX + orderId);
+                    commands.set(KEY_PREFIX + orderId + EVICTED_SUFFIX, "1", tombstone, RedisStringCommands.SetOption.upsert());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("Redis order cache evict failed :: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB 조회 후 L2 에 저장되었을 때만 L1 에도 저장
+     * (tombstone 때문에 거절되었거나 Redis 장애로 확인할 수 없으면 commit 전 값일 수 있음)
+     */
+    private Optional<OrderSnapshot> load(String orderId, Supplier<Optional<Order>> loader) {
+        long generation = evictions.get();
+        Optional<OrderSnapshot> snapshot = loader.get().map(OrderSnapshot::of);
+        snapshot.ifPresent(value -> {
+            if (putRedis(orderId, value)) {
+                putLocal(orderId, value, generation);
+            }
+        });
+        return snapshot;
+    }
+
+    private OrderSnapshot getLocal(String orderId) {
+        long now = clock.millis();
+        localLock.lock();
+        try {
+            Entry entry = local.get(orderId);
+            if (entry != null && entry.expiresAt > now) {
+                localHits.increment();
+                return entry.snapshot;
+            }
+            if (entry != null) {
+                local.remove(orderId);
+            }
+        } finally {
+            localLock.unlock();
+        }
+        localMisses.increment();
+        return null;
+    }
+
+    /**
+     * @param generation 조회를 시작할 때의 evictions 값, 그 뒤에 evict 가 있었으면 저장하지 않음
+     */
+    private void putLocal(String orderId, OrderSnapshot snapshot, long generation) {
+        Entry entry = new Entry(snapshot, clock.millis() + localTtlMillis);
+        localLock.lock();
+        try {
+            if (evictions.get() != generation) {
+                return;
+            }
+            local.put(orderId, entry);
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    private OrderSnapshot getRedis(String orderId) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + orderId);
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, OrderSnapshot.class);
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("Redis order cache lookup failed :: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @return 저장했으면 true, evict 표시가 있거나 Redis 장애면 false
+     */
+    private boolean putRedis(String orderId, OrderSnapshot snapshot) {
+        try {
+            String key = KEY_PREFIX + orderId;
+            Long stored = redisTemplate.execute(PUT_UNLESS_EVICTED, List.of(key, key + EVICTED_SUFFIX),
+                    objectMapper.writeValueAsString(snapshot), String.valueOf(ttlMillis));
+            return stored != null && stored == 1L;
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("Redis order cache store failed :: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public long getLocalHitCount() {
+        return localHits.sum();
+    }
+
+    public long getLocalMissCount() {
+        return localMisses.sum();
+    }
+
+    public double getLocalHitRate() {
+        return hitRate(localHits.sum(), localMisses.sum());
+    }
+
+    public long getRedisHitCount() {
+        return redisHits.sum();
+    }
+
+    public long getRedisMissCount() {
+        return redisMisses.sum();
+    }
+
+    public double getRedisHitRate() {
+        return hitRate(redisHits.sum(), redisMisses.sum());
+    }
+
+    public long getRedisErrorCount() {
+        return redisErrors.sum();
+    }
+
+    /**
+     * @return DB 조회를 다른 호출과 공유한 횟수
+     */
+    public long getCoalescedLoadCount() {
+        return loads.getCoalescedCount();
+    }
+
+    public int localSize() {
+        localLock.lock();
+        try {
+            // 만료된 항목도 포함 (다음 조회 때 제거)
+            return local.size();
+        } finally {
+            localLock.unlock();
+        }
+    }
+
+    private static double hitRate(long hitCount, long missCount) {
+        long total = hitCount + missCount;
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    private record Entry(OrderSnapshot snapshot, long expiresAt) {
+    }
+}
@@ -0,0 +1,43 @@
+package backend.trade.order.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 캐시(L1/L2) 적중률, 합쳐진 DB 조회 수를 Micrometer 에 등록
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderCacheMetrics implements MeterBinder {
+
+    private final OrderCache orderCache;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("order.cache.requests", orderCache, OrderCache::getLocalHitCount)
+                .tags("tier", "l1", "result", "hit").register(registry);
+        FunctionCounter.builder("order.cache.requests", orderCache, OrderCache::getLocalMissCount)
+                .tags("tier", "l1", "result", "miss").register(registry);
+        Gauge.builder("order.cache.hit_ratio", orderCache, OrderCache::getLocalHitRate)
+                .tags("tier", "l1").register(registry);
+        Gauge.builder("order.cache.size", orderCache, OrderCache::localSize)
+                .tags("tier", "l1").register(registry);
+
+        FunctionCounter.builder("order.cache.requests", orderCache, OrderCache::getRedisHitCount)
+                .tags("tier", "l2", "result", "hit").register(registry);
+        FunctionCounter.builder("order.cache.requests", orderCache, OrderCache::getRedisMissCount)
+                .tags("tier", "l2", "result", "miss").register(registry);
+        FunctionCounter.builder("order.cache.errors", orderCache, OrderCache::getRedisErrorCount)
+                .tags("tier", "l2").register(registry);
+        Gauge.builder("order.cache.hit_ratio", orderCache, OrderCache::getRedisHitRate)
+                .tags("tier", "l2").register(registry);
+
+        FunctionCounter.builder("order.cache.coalesced", orderCache, OrderCache::getCoalescedLoadCount)
+                .description("Order loads that shared an in-flight database read")
+                .register(registry);
+    }
+}
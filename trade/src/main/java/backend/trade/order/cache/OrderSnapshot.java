@@ -0,0 +1,44 @@
+package backend.trade.order.cache;
+
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.Order;
+import backend.trade.order.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 캐시에 저장하는 주문 값 (엔티티를 그대로 직렬화하지 않음)
+ * 꺼낼 때마다 새 Order 를 만들어 반환하므로 호출자끼리 인스턴스를 공유하지 않음
+ */
+record OrderSnapshot(String id,
+                     LocalDateTime orderDate,
+                     Long userId,
+                     OrderStatus status,
+                     ItemType itemType,
+                     Invoice invoice,
+                     Double quantity,
+                     String shippingAddress,
+                     Long version) {
+
+    static OrderSnapshot of(Order order) {
+        return new OrderSnapshot(order.getId(), order.getOrderDate(), order.getUserId(), order.getStatus(),
+                order.getItemType(), order.getInvoice(), order.getQuantity(), order.getShippingAddress(),
+                order.getVersion());
+    }
+
+    Order toOrder() {
+        return Order.builder()
+                .id(id)
+                .orderDate(orderDate)
+                .userId(userId)
+                .status(status)
+                .itemType(itemType)
+                .invoice(invoice)
+                .quantity(quantity)
+                .shippingAddress(shippingAddress)
+                .version(version)
+                .newEntity(false)
+                .build();
+    }
+}
@@ -1,26 +1,40 @@
 package backend.trade.order.controller;
 
+import backend.trade.order.dto.OrderBatchStatusUpdateDto;
+import backend.trade.order.dto.OrderDailyVolumeDto;
 import backend.trade.order.dto.OrderDeleteRequestDto;
+import backend.trade.order.dto.OrderPageDto;
 import backend.trade.order.dto.OrderPageRequestDto;
+import backend.trade.order.dto.OrderPositionDto;
 import backend.trade.order.dto.OrderRegisterRequestDto;
+import backend.trade.order.dto.OrderRegisterResultDto;
+import backend.trade.order.dto.OrderStatusChangeResultDto;
 import backend.trade.order.dto.OrderStatusUpdateDto;
-import backend.trade.common.grpc.AuthClientService;
+import backend.trade.order.dto.OrderStatusUpdateResultDto;
+import backend.trade.common.security.AuthenticatedUser;
 import backend.trade.order.model.Order;
+import backend.trade.order.service.OrderExportService;
 import backend.trade.order.service.OrderService;
-import io.jsonwebtoken.JwtException;
+import backend.trade.order.service.OrderSummaryService;
+import backend.trade.order.watch.OrderWatchHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -29,12 +43,15 @@ import java.util.Map;
 @RequestMapping("/api/order")
 public class TradeController {
 
-    private final AuthClientService authClientService;
     private final OrderService orderService;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderExportService orderExportService;
+    private final OrderWatchHub orderWatchHub;
 
     /**
      * gRPC 를 타고 token 정상적으로 검증되는지 확인
-     * @param authorizationHeader
+     * 검증은 TokenAuthenticationFilter 에서 요청당 한 번 수행되고, 여기서는 principal 만 확인
+     * @param user
      * @return
      */
     @GetMapping("/verify")
@@ -45,20 +62,8 @@ public class TradeController {
             @ApiResponse(responseCode = "401", description = "유효하지 않은 엑세스 토큰입니다.", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "Authorization 헤더가 잘못되었습니다.", content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<String> verifyToken(@RequestHeader("Authorization") String authorizationHeader) {
-        String token = authorizationHeader.substring(7);
-        try {
-            if (authClientService.verifyToken(token)) {
-                Long userId = authClientService.getUserIdFromToken(token);
-                return new ResponseEntity<>("Token is VALID. User ID: " + userId, HttpStatus.OK);
-            } else {
-                log.warn("Token is INVALID OR EXPIRED");
-                return new ResponseEntity<>("Token is INVALID OR EXPIRED", HttpStatus.UNAUTHORIZED);
-            }
-        } catch (JwtException | IllegalArgumentException e) {
-            log.error("Verify 중 에러 :: {}", e.getMessage());
-            return new ResponseEntity<>("INVALID TOKEN :: " + e.getMessage(), HttpStatus.UNAUTHORIZED);
-        }
+    public ResponseEntity<String> verifyToken(@AuthenticationPrincipal AuthenticatedUser user) {
+        return new ResponseEntity<>("Token is VALID. User ID: " + user.getUserId(), HttpStatus.OK);
     }
 
 
@@ -74,15 +79,47 @@ public class TradeController {
                     content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "5003", description = "지원되지 않는 요청 방법입니다.",
                     content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5004", description = "요청이 너무 많습니다. Retry-After 헤더의 시간(초) 이후 다시 시도해주세요.",
+                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "5000", description = "알 수 없는 문제가 발생했습니다.",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<Order> createOrder(@RequestHeader("Authorization") String token, @RequestBody OrderRegisterRequestDto orderRequest) {
-        Order order = orderService.createOrder(token, orderRequest);
+    public ResponseEntity<Order> createOrder(@AuthenticationPrincipal AuthenticatedUser user, @RequestBody OrderRegisterRequestDto orderRequest) {
+        Order order = orderService.createOrder(user.getUserId(), orderRequest);
         return ResponseEntity.ok(order);
     }
 
 
+    @PostMapping("/register/bulk")
+    @Operation(summary = "주문 대량 등록",
+            description = "헤더의 토큰을 통해 사용자를 한 번 인증한 후 여러 건의 주문을 한 트랜잭션으로 등록하는 API 입니다. 건별 결과(index, orderId 또는 errorCode)를 요청 순서대로 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "등록을 처리했습니다. 건별 결과를 확인해주세요.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "1000", description = "유효하지 않은 액세스 토큰입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "2008", description = "한 번에 등록할 수 있는 주문 수를 초과했습니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5004", description = "요청이 너무 많습니다. Retry-After 헤더의 시간(초) 이후 다시 시도해주세요.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5000", description = "알 수 없는 문제가 발생했습니다.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<Map<String, Object>> createOrders(@AuthenticationPrincipal AuthenticatedUser user,
+                                                            @RequestBody List<OrderRegisterRequestDto> orderRequests) {
+        List<OrderRegisterResultDto> results = orderService.createOrders(user.getUserId(), orderRequests);
+        long succeeded = results.stream().filter(OrderRegisterResultDto::isSuccess).count();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", "true");
+        response.put("succeeded", succeeded);
+        response.put("failed", results.size() - succeeded);
+        response.put("data", results);
+
+        return ResponseEntity.ok(response);
+    }
+
+
     @PatchMapping("/update")
     @Operation(summary = "주문 상태 업데이트",
             description = "헤더의 토큰을 통해 사용자를 인증한 후 주문 상태를 업데이트하는 API 입니다.")
@@ -93,6 +130,8 @@ public class TradeController {
                     content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "1000", description = "유효하지 않은 액세스 토큰입니다.",
                     content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "2001", description = "해당 주문은 존재하지 않습니다.",
+                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "2002", description = "해당 주문의 상태를 다시 확인해주세요.",
                     content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "2003", description = "판매 타입에 해당하지 않는 주문 상태입니다.",
@@ -101,41 +140,131 @@ public class TradeController {
                     content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "5003", description = "지원되지 않는 요청 방법입니다.",
                     content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5004", description = "요청이 너무 많습니다. Retry-After 헤더의 시간(초) 이후 다시 시도해주세요.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5000", description = "알 수 없는 문제가 발생했습니다.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<OrderStatusUpdateResultDto> updateOrderStatus(@AuthenticationPrincipal AuthenticatedUser user, @RequestBody OrderStatusUpdateDto updateRequest) {
+        return ResponseEntity.ok(orderService.updateOrderStatus(user.getUserId(), updateRequest));
+    }
+
+
+    @PatchMapping("/update/batch")
+    @Operation(summary = "주문 상태 일괄 업데이트",
+            description = "헤더의 토큰을 통해 사용자를 한 번 인증한 후 여러 주문을 같은 상태로 변경하는 API 입니다 (출고 처리 등). 주문별 결과(orderId, errorCode)를 요청 순서대로 반환합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경을 처리했습니다. 주문별 결과를 확인해주세요.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "1001", description = "유효하지 않은 사용자입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "1000", description = "유효하지 않은 액세스 토큰입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "2002", description = "해당 주문의 상태를 다시 확인해주세요.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "2008", description = "한 번에 처리할 수 있는 주문 수를 초과했습니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5004", description = "요청이 너무 많습니다. Retry-After 헤더의 시간(초) 이후 다시 시도해주세요.",
+                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "5000", description = "알 수 없는 문제가 발생했습니다.",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<Order> updateOrderStatus(@RequestHeader("Authorization") String token, @RequestBody OrderStatusUpdateDto updateRequest) {
-        Order updatedOrder = orderService.updateOrderStatus(token, updateRequest);
-        return ResponseEntity.ok(updatedOrder);
+    public ResponseEntity<Map<String, Object>> updateOrderStatuses(@AuthenticationPrincipal AuthenticatedUser user,
+                                                                   @RequestBody OrderBatchStatusUpdateDto updateRequest) {
+        List<OrderStatusChangeResultDto> results = orderService.updateOrderStatuses(user.getUserId(), updateRequest);
+        long succeeded = results.stream().filter(OrderStatusChangeResultDto::isSuccess).count();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", "true");
+        response.put("succeeded", succeeded);
+        response.put("failed", results.size() - succeeded);
+        response.put("data", results);
+
+        return ResponseEntity.ok(response);
+    }
+
+
+    @GetMapping("/detail/{orderId}")
+    @Operation(summary = "주문 상세",
+            description = "헤더의 토큰을 통해 사용자를 인증한 후 자신의 주문 한 건을 조회하는 API 입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "주문을 성공적으로 불러왔습니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "1000", description = "유효하지 않은 액세스 토큰입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "2001", description = "해당 주문은 존재하지 않습니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5000", description = "알 수 없는 문제가 발생했습니다.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<Order> getOrder(@AuthenticationPrincipal AuthenticatedUser user, @PathVariable String orderId) {
+        return ResponseEntity.ok(orderService.getOrder(user.getUserId(), orderId));
+    }
+
+
+    @GetMapping("/position")
+    @Operation(summary = "품목별 포지션",
+            description = "헤더의 토큰을 통해 사용자를 인증한 후 자신의 품목별 누적 구매량, 판매량과 순 포지션(구매 - 판매, gram)을 조회하는 API 입니다. settledNetQuantity 는 거래가 끝난 주문(구매 발송 완료, 판매 수령 완료)만의 순 포지션입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "포지션을 성공적으로 불러왔습니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "1000", description = "유효하지 않은 액세스 토큰입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5000", description = "알 수 없는 문제가 발생했습니다.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<List<OrderPositionDto>> getPositions(@AuthenticationPrincipal AuthenticatedUser user) {
+        return ResponseEntity.ok(orderSummaryService.getPositions(user.getUserId()));
+    }
+
+    @GetMapping("/volume")
+    @Operation(summary = "일별 주문량",
+            description = "헤더의 토큰을 통해 사용자를 인증한 후 기간(from ~ to, yyyy-MM-dd, 둘 다 포함) 내 자신의 일별, 품목별 구매량, 판매량을 조회하는 API 입니다. 기간을 지정하지 않으면 최근 30일입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "일별 주문량을 성공적으로 불러왔습니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "1000", description = "유효하지 않은 액세스 토큰입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5001", description = "필드 타입이 잘못되었습니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5000", description = "알 수 없는 문제가 발생했습니다.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<List<OrderDailyVolumeDto>> getDailyVolumes(@AuthenticationPrincipal AuthenticatedUser user,
+                                                                     @RequestParam(required = false) String from,
+                                                                     @RequestParam(required = false) String to) {
+        return ResponseEntity.ok(orderSummaryService.getDailyVolumes(user.getUserId(),
+                orderSummaryService.parseDayString(from), orderSummaryService.parseDayString(to)));
     }
 
 
     @GetMapping("/list")
     @Operation(summary = "주문 리스트",
-            description = "헤더의 토큰을 통해 사용자를 인증한 후 원하는 주문 정보를 확인하고 limit 과 offset 지정 후 해당하는 페이지 리스트의 정보를 확인하는 API 입니다.")
+            description = "헤더의 토큰을 통해 사용자를 인증한 후 자신의 주문을 최신순으로 조회하는 API 입니다. invoice, 기간(from ~ to)으로 필터링하고, 응답의 next 링크(cursor)로 다음 페이지를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "주문 리스트를 성공적으로 불러왔습니다.",
                     content = @Content(mediaType = "application/json")),
-            @ApiResponse(responseCode = "1001", description = "유효하지 않은 사용자입니다.",
-                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "1000", description = "유효하지 않은 액세스 토큰입니다.",
                     content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "2007", description = "잘못된 페이지 위치입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5001", description = "필드 타입이 잘못되었습니다.",
+                    content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "5003", description = "지원되지 않는 요청 방법입니다.",
                     content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "5000", description = "알 수 없는 문제가 발생했습니다.",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<Map<String, Object>> getPagedOrders(@RequestHeader("Authorization") String token, @RequestBody OrderPageRequestDto requestDto) {
-        LocalDateTime date = orderService.parseDateString(requestDto.getDateString());
-
-        Page<Order> orderPage = orderService.countPage(requestDto.getOffset(), requestDto.getLimit());
-        Order pagedOrder = orderService.getPagedOrders(token, date, requestDto.getInvoice());
+    public ResponseEntity<Map<String, Object>> getPagedOrders(@AuthenticationPrincipal AuthenticatedUser user, OrderPageRequestDto requestDto) {
+        OrderPageDto page = orderService.getPagedOrders(user.getUserId(), requestDto.getInvoice(),
+                orderService.parseDateString(requestDto.getFrom()), orderService.parseDateString(requestDto.getTo()),
+                requestDto.getLimit(), requestDto.getCursor());
 
         Map<String, Object> response = new HashMap<>();
         response.put("success", "true");
         response.put("message", "Success to search invoices");
-        response.put("data", pagedOrder);
-        response.put("links", orderService.buildPaginationLinks(orderPage, date, requestDto.getLimit(), requestDto.getOffset(), requestDto.getInvoice()));
+        response.put("data", page.getOrders());
+        response.put("links", orderService.buildPaginationLinks(page, requestDto));
 
         return ResponseEntity.ok(response);
     }
@@ -157,9 +286,61 @@ public class TradeController {
             @ApiResponse(responseCode = "5000", description = "알 수 없는 문제가 발생했습니다.",
                     content = @Content(mediaType = "application/json"))
     })
-    public ResponseEntity<String> updateOrderStatus(@RequestHeader("Authorization") String token,
+    public ResponseEntity<String> updateOrderStatus(@AuthenticationPrincipal AuthenticatedUser user,
                                                @RequestBody OrderDeleteRequestDto deleteRequestDto) {
-        orderService.deleteOrder(token, deleteRequestDto);
+        orderService.deleteOrder(user.getUserId(), deleteRequestDto);
         return ResponseEntity.ok("ok");
     }
+
+    @GetMapping(value = "/watch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "주문 상태 변경 구독 (SSE)",
+            description = "헤더의 토큰을 통해 사용자를 인증한 후 자신의 주문 상태 변경을 order-status 이벤트로 전달받는 API 입니다. orderIds 를 지정하지 않으면 모든 주문을 구독합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "구독이 시작되었습니다.",
+                    content = @Content(mediaType = "text/event-stream")),
+            @ApiResponse(responseCode = "1000", description = "유효하지 않은 액세스 토큰입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "2006", description = "동시에 구독할 수 있는 주문 상태 알림 수를 초과했습니다.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public SseEmitter watchOrders(@AuthenticationPrincipal AuthenticatedUser user,
+                                  @RequestParam(required = false) List<String> orderIds) {
+        return orderWatchHub.subscribe(user.getUserId(), orderIds);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "주문 내역 내보내기",
+            description = "헤더의 토큰을 통해 사용자를 인증한 후 기간(from ~ to) 내 자신의 모든 주문을 오래된 순으로 NDJSON 또는 CSV 로 내려받는 API 입니다. 건수와 관계없이 읽는 대로 전송합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "주문 내역 전송을 시작합니다.",
+                    content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "1000", description = "유효하지 않은 액세스 토큰입니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "2010", description = "진행 중인 주문 내역 내보내기가 많습니다.",
+                    content = @Content(mediaType = "application/json")),
+            @ApiResponse(responseCode = "5001", description = "필드 타입이 잘못되었습니다.",
+                    content = @Content(mediaType = "application/json"))
+    })
+    public ResponseEntity<StreamingResponseBody> exportOrders(@AuthenticationPrincipal AuthenticatedUser user,
+                                                              @RequestParam(defaultValue = "NDJSON") OrderExportService.Format format,
+                                                              @RequestParam(required = false) String from,
+                                                              @RequestParam(required = false) String to) {
+        Long userId = user.getUserId();
+        LocalDateTime fromDate = orderService.parseDateString(from);
+        LocalDateTime toDate = orderService.parseDateString(to);
+
+        // 응답 header 를 보내기 전에 자리를 확보해야 오류 응답(429)을 줄 수 있음, 반납은 전송이 끝난 뒤
+        orderExportService.acquireRestExport();
+        StreamingResponseBody body = out -> {
+            try {
+                orderExportService.write(userId, fromDate, toDate, format, out);
+            } finally {
+                orderExportService.releaseRestExport();
+            }
+        };
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, format.getContentType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"orders-" + userId + "." + format.getExtension() + "\"")
+                .body(body);
+    }
 }
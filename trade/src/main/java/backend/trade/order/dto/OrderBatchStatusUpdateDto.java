@@ -0,0 +1,22 @@
+package backend.trade.order.dto;
+
+import backend.trade.order.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 여러 주문을 같은 상태로 한 번에 변경 (출고 등)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderBatchStatusUpdateDto {
+    private Long userId;
+    private OrderStatus newStatus;
+    private List<String> orderIds;
+}
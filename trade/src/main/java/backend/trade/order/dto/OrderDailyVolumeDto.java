@@ -0,0 +1,38 @@
+package backend.trade.order.dto;
+
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.OrderDailySummary;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 사용자의 일별, 품목별 주문량 (gram), volume = 구매 + 판매
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderDailyVolumeDto {
+    private LocalDate tradeDate;
+    private ItemType itemType;
+    private BigDecimal purchaseQuantity;
+    private BigDecimal sellQuantity;
+    private BigDecimal volume;
+    private long orderCount;
+
+    public static OrderDailyVolumeDto of(OrderDailySummary summary) {
+        return OrderDailyVolumeDto.builder()
+                .tradeDate(summary.getTradeDate())
+                .itemType(summary.getItemType())
+                .purchaseQuantity(summary.getPurchaseQuantity())
+                .sellQuantity(summary.getSellQuantity())
+                .volume(summary.getPurchaseQuantity().add(summary.getSellQuantity()))
+                .orderCount(summary.getOrderCount())
+                .build();
+    }
+}
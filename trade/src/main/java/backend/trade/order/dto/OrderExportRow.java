@@ -0,0 +1,20 @@
+package backend.trade.order.dto;
+
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 내보내기 한 행 (JPQL constructor projection, 영속성 컨텍스트에 올라가지 않음)
+ */
+public record OrderExportRow(String id,
+                             LocalDateTime orderDate,
+                             Long userId,
+                             OrderStatus status,
+                             ItemType itemType,
+                             Invoice invoice,
+                             Double quantity,
+                             String shippingAddress) {
+}
@@ -0,0 +1,26 @@
+package backend.trade.order.dto;
+
+import backend.trade.order.model.Order;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주문 목록 한 페이지 (최신 주문부터)
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPageDto {
+    private List<Order> orders;
+    private String nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -6,14 +6,19 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+/**
+ * 주문 목록 조회 조건 (query parameter)
+ * from, to : yyyy-MM-dd'T'HH:mm:ss, to 는 포함하지 않음
+ * cursor : 이전 응답의 next 링크에 포함된 값, 없으면 첫 페이지
+ */
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class OrderPageRequestDto {
-    private Long userId;
-    private String dateString;
-    private int limit;
-    private int offset;
     private Invoice invoice;
+    private String from;
+    private String to;
+    private Integer limit;
+    private String cursor;
 }
@@ -0,0 +1,45 @@
+package backend.trade.order.dto;
+
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.OrderPosition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 사용자의 품목별 누적 포지션 (gram)
+ * net = 구매 - 판매, settled = 거래가 끝난 주문만 (구매 발송 완료, 판매 수령 완료)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderPositionDto {
+    private ItemType itemType;
+    private BigDecimal purchaseQuantity;
+    private BigDecimal sellQuantity;
+    private BigDecimal netQuantity;
+    private BigDecimal settledNetQuantity;
+    private long orderCount;
+
+    public static OrderPositionDto of(OrderPosition position) {
+        return OrderPositionDto.builder()
+                .itemType(position.getItemType())
+                .purchaseQuantity(position.getPurchaseQuantity())
+                .sellQuantity(position.getSellQuantity())
+                .netQuantity(position.getNetQuantity())
+                .settledNetQuantity(position.getSettledNetQuantity())
+                .orderCount(position.getOrderCount())
+                .build();
+    }
+
+    /**
+     * 주문이 없는 품목
+     */
+    public static OrderPositionDto empty(ItemType itemType) {
+        return new OrderPositionDto(itemType, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0);
+    }
+}
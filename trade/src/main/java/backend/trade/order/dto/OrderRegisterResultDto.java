@@ -0,0 +1,40 @@
+package backend.trade.order.dto;
+
+import backend.trade.common.exception.CustomError;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 건 주문 등록 시 건별 결과 (errorCode 가 null 이면 성공)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderRegisterResultDto {
+    private int index;
+    private String orderId;
+    private Integer errorCode;
+    private String message;
+
+    public static OrderRegisterResultDto success(int index, String orderId) {
+        return OrderRegisterResultDto.builder()
+                .index(index)
+                .orderId(orderId)
+                .build();
+    }
+
+    public static OrderRegisterResultDto failure(int index, CustomError error) {
+        return OrderRegisterResultDto.builder()
+                .index(index)
+                .errorCode(error.getErrorCode())
+                .message(error.getMessage())
+                .build();
+    }
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+}
@@ -0,0 +1,38 @@
+package backend.trade.order.dto;
+
+import backend.trade.common.exception.CustomError;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 주문 상태 변경 시 주문별 결과 (errorCode 가 null 이면 성공)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusChangeResultDto {
+    private String orderId;
+    private Integer errorCode;
+    private String message;
+
+    public static OrderStatusChangeResultDto success(String orderId) {
+        return OrderStatusChangeResultDto.builder()
+                .orderId(orderId)
+                .build();
+    }
+
+    public static OrderStatusChangeResultDto failure(String orderId, CustomError error) {
+        return OrderStatusChangeResultDto.builder()
+                .orderId(orderId)
+                .errorCode(error.getErrorCode())
+                .message(error.getMessage())
+                .build();
+    }
+
+    public boolean isSuccess() {
+        return errorCode == null;
+    }
+}
@@ -0,0 +1,22 @@
+package backend.trade.order.dto;
+
+import backend.trade.order.model.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 결과 (변경 후 주문을 다시 읽지 않음)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderStatusUpdateResultDto {
+    private String orderId;
+    private OrderStatus status;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,36 @@
+package backend.trade.order.grpc;
+
+import backend.trade.order.watch.OrderStatusChangedEvent;
+import backend.trade.order.watch.OrderWatchHub;
+import backend.trade.order.watch.OrderWatcher;
+import io.grpc.stub.ServerCallStreamObserver;
+import trade.Trade;
+
+import java.util.Collection;
+
+/**
+ * WatchOrders stream 구독자
+ * 전송 버퍼가 차면(isReady == false) drain 을 멈추고 onReady 에서 다시 시작
+ */
+class GrpcOrderWatcher extends OrderWatcher {
+
+    private final ServerCallStreamObserver<Trade.OrderStatusEvent> responseObserver;
+
+    GrpcOrderWatcher(OrderWatchHub hub, Long userId, Collection<String> orderIds,
+                     ServerCallStreamObserver<Trade.OrderStatusEvent> responseObserver) {
+        super(hub, userId, orderIds);
+        this.responseObserver = responseObserver;
+        responseObserver.setOnReadyHandler(this::schedule);
+        responseObserver.setOnCancelHandler(this::close);
+    }
+
+    @Override
+    protected boolean isReady() {
+        return responseObserver.isReady() && !responseObserver.isCancelled();
+    }
+
+    @Override
+    protected void send(OrderStatusChangedEvent event) {
+        responseObserver.onNext(OrderGrpcMapper.toStatusEvent(event));
+    }
+}
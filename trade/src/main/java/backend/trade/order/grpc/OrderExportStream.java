@@ -0,0 +1,119 @@
+package backend.trade.order.grpc;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import backend.trade.common.grpc.GrpcErrors;
+import backend.trade.order.dto.OrderExportRow;
+import backend.trade.order.service.OrderExportService;
+import io.grpc.stub.ServerCallStreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import trade.Trade;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ExportOrders stream 하나의 처리
+ * - DB stream 은 한 스레드에서 트랜잭션 안에 읽어야 하므로 별도 export 스레드에서 실행
+ *   (gRPC 콜백 스레드를 막으면 onReady 가 전달되지 않음)
+ * - chunk-size 건씩 묶어 전송하고, 전송 버퍼가 차 있으면(isReady == false) onReady 까지 DB 읽기를 멈춤
+ * - 클라이언트가 취소하면 읽기를 중단하고 트랜잭션 종료
+ */
+@Slf4j
+class OrderExportStream implements Runnable {
+
+    private final ServerCallStreamObserver<Trade.ExportOrdersResponse> responseObserver;
+    private final OrderExportService orderExportService;
+    private final Long userId;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final int chunkSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition readyOrCancelled = lock.newCondition();
+    private Trade.ExportOrdersResponse.Builder chunk = Trade.ExportOrdersResponse.newBuilder();
+
+    OrderExportStream(ServerCallStreamObserver<Trade.ExportOrdersResponse> responseObserver,
+                      OrderExportService orderExportService, Long userId,
+                      LocalDateTime from, LocalDateTime to, int chunkSize) {
+        this.responseObserver = responseObserver;
+        this.orderExportService = orderExportService;
+        this.userId = userId;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    void start(Executor executor) {
+        responseObserver.setOnReadyHandler(this::signal);
+        responseObserver.setOnCancelHandler(this::signal);
+        executor.execute(this);
+    }
+
+    @Override
+    public void run() {
+        try {
+            long count = orderExportService.forEach(userId, from, to, this::append);
+            sendChunk();
+            responseObserver.onCompleted();
+            log.info("Exported {} order(s) of user {} over gRPC", count, userId);
+        } catch (CancellationException e) {
+            log.info("Order export of user {} cancelled by client", userId);
+        } catch (CustomException e) {
+            responseObserver.onError(GrpcErrors.toStatusException(e.getCustomError()));
+        } catch (Exception e) {
+            log.error("error !", e);
+            responseObserver.onError(GrpcErrors.toStatusException(CustomError.SERVER_ERROR));
+        }
+    }
+
+    private void append(OrderExportRow row) {
+        chunk.addOrders(OrderGrpcMapper.toMessage(row));
+        if (chunk.getOrdersCount() >= chunkSize) {
+            sendChunk();
+        }
+    }
+
+    private void sendChunk() {
+        if (chunk.getOrdersCount() == 0) {
+            return;
+        }
+        awaitReady();
+        responseObserver.onNext(chunk.build());
+        chunk = Trade.ExportOrdersResponse.newBuilder();
+    }
+
+    private void awaitReady() {
+        lock.lock();
+        try {
+            while (!responseObserver.isReady()) {
+                if (responseObserver.isCancelled()) {
+                    throw new CancellationException();
+                }
+                // onReady 를 놓치더라도 주기적으로 다시 확인
+                readyOrCancelled.await(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException();
+        } finally {
+            lock.unlock();
+        }
+        if (responseObserver.isCancelled()) {
+            throw new CancellationException();
+        }
+    }
+
+    private void signal() {
+        lock.lock();
+        try {
+            readyOrCancelled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
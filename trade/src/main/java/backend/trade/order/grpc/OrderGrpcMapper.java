@@ -0,0 +1,201 @@
+package backend.trade.order.grpc;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import backend.trade.order.dto.OrderBatchStatusUpdateDto;
+import backend.trade.order.dto.OrderDailyVolumeDto;
+import backend.trade.order.dto.OrderDeleteRequestDto;
+import backend.trade.order.dto.OrderExportRow;
+import backend.trade.order.dto.OrderPositionDto;
+import backend.trade.order.dto.OrderRegisterRequestDto;
+import backend.trade.order.dto.OrderRegisterResultDto;
+import backend.trade.order.dto.OrderStatusChangeResultDto;
+import backend.trade.order.dto.OrderStatusUpdateDto;
+import backend.trade.order.dto.OrderStatusUpdateResultDto;
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.Order;
+import backend.trade.order.model.OrderStatus;
+import backend.trade.order.watch.OrderStatusChangedEvent;
+import trade.Trade;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * trade.proto 메시지 <-> 주문 DTO / 엔티티 변환
+ * proto enum 과 Java enum 은 이름이 같으므로 이름으로 변환 (UNSPECIFIED 는 null)
+ */
+public final class OrderGrpcMapper {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private OrderGrpcMapper() {
+    }
+
+    public static Trade.Order toMessage(Order order) {
+        Trade.Order.Builder builder = Trade.Order.newBuilder()
+                .setId(order.getId())
+                .setUserId(order.getUserId());
+        if (order.getOrderDate() != null) {
+            builder.setOrderDate(order.getOrderDate().format(DATE_FORMATTER));
+        }
+        if (order.getStatus() != null) {
+            builder.setStatus(Trade.OrderStatus.valueOf(order.getStatus().name()));
+        }
+        if (order.getItemType() != null) {
+            builder.setItemType(Trade.ItemType.valueOf(order.getItemType().name()));
+        }
+        if (order.getInvoice() != null) {
+            builder.setInvoice(Trade.Invoice.valueOf(order.getInvoice().name()));
+        }
+        if (order.getQuantity() != null) {
+            builder.setQuantity(order.getQuantity());
+        }
+        if (order.getShippingAddress() != null) {
+            builder.setShippingAddress(order.getShippingAddress());
+        }
+        return builder.build();
+    }
+
+    public static Trade.Order toMessage(OrderExportRow row) {
+        Trade.Order.Builder builder = Trade.Order.newBuilder()
+                .setId(row.id())
+                .setUserId(row.userId());
+        if (row.orderDate() != null) {
+            builder.setOrderDate(row.orderDate().format(DATE_FORMATTER));
+        }
+        if (row.status() != null) {
+            builder.setStatus(Trade.OrderStatus.valueOf(row.status().name()));
+        }
+        if (row.itemType() != null) {
+            builder.setItemType(Trade.ItemType.valueOf(row.itemType().name()));
+        }
+        if (row.invoice() != null) {
+            builder.setInvoice(Trade.Invoice.valueOf(row.invoice().name()));
+        }
+        if (row.quantity() != null) {
+            builder.setQuantity(row.quantity());
+        }
+        if (row.shippingAddress() != null) {
+            builder.setShippingAddress(row.shippingAddress());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 건별 등록 결과 -> OrderAck (sequence = 요청 목록의 index, errorCode 0 = 성공)
+     */
+    public static Trade.OrderAck toAck(OrderRegisterResultDto result) {
+        Trade.OrderAck.Builder ack = Trade.OrderAck.newBuilder().setSequence(result.getIndex());
+        if (result.isSuccess()) {
+            return ack.setOrderId(result.getOrderId()).build();
+        }
+        return ack.setErrorCode(result.getErrorCode())
+                .setMessage(result.getMessage())
+                .build();
+    }
+
+    public static Trade.OrderStatusResult toStatusResult(OrderStatusChangeResultDto result) {
+        Trade.OrderStatusResult.Builder message = Trade.OrderStatusResult.newBuilder().setOrderId(result.getOrderId());
+        if (result.isSuccess()) {
+            return message.build();
+        }
+        return message.setErrorCode(result.getErrorCode())
+                .setMessage(result.getMessage())
+                .build();
+    }
+
+    public static Trade.Position toMessage(OrderPositionDto position) {
+        return Trade.Position.newBuilder()
+                .setItemType(Trade.ItemType.valueOf(position.getItemType().name()))
+                .setPurchaseQuantity(position.getPurchaseQuantity().doubleValue())
+                .setSellQuantity(position.getSellQuantity().doubleValue())
+                .setNetQuantity(position.getNetQuantity().doubleValue())
+                .setSettledNetQuantity(position.getSettledNetQuantity().doubleValue())
+                .setOrderCount(position.getOrderCount())
+                .build();
+    }
+
+    public static Trade.DailyVolume toMessage(OrderDailyVolumeDto volume) {
+        return Trade.DailyVolume.newBuilder()
+                .setTradeDate(volume.getTradeDate().toString())
+                .setItemType(Trade.ItemType.valueOf(volume.getItemType().name()))
+                .setPurchaseQuantity(volume.getPurchaseQuantity().doubleValue())
+                .setSellQuantity(volume.getSellQuantity().doubleValue())
+                .setOrderCount(volume.getOrderCount())
+                .build();
+    }
+
+    public static Trade.UpdateOrderStatusResponse toStatusUpdateResponse(OrderStatusUpdateResultDto result) {
+        return Trade.UpdateOrderStatusResponse.newBuilder()
+                .setOrderId(result.getOrderId())
+                .setStatus(Trade.OrderStatus.valueOf(result.getStatus().name()))
+                .setChangedAt(result.getChangedAt().format(DATE_FORMATTER))
+                .build();
+    }
+
+    public static Trade.OrderStatusEvent toStatusEvent(OrderStatusChangedEvent event) {
+        return Trade.OrderStatusEvent.newBuilder()
+                .setOrderId(event.orderId())
+                .setStatus(Trade.OrderStatus.valueOf(event.status().name()))
+                .setChangedAt(event.changedAt().format(DATE_FORMATTER))
+                .build();
+    }
+
+    public static OrderRegisterRequestDto toRegisterRequest(Trade.CreateOrderRequest request) {
+        return OrderRegisterRequestDto.builder()
+                .userId(request.getUserId())
+                .invoice(toInvoice(request.getInvoice()))
+                .itemType(toItemType(request.getItemType()))
+                .quantity(request.getQuantity())
+                .shippingAddress(request.getShippingAddress())
+                .build();
+    }
+
+    public static OrderStatusUpdateDto toStatusUpdate(Trade.UpdateOrderStatusRequest request) {
+        return OrderStatusUpdateDto.builder()
+                .userId(request.getUserId())
+                .orderId(request.getOrderId())
+                .newStatus(toOrderStatus(request.getNewStatus()))
+                .build();
+    }
+
+    public static OrderBatchStatusUpdateDto toBatchStatusUpdate(Trade.BatchUpdateOrderStatusRequest request) {
+        return OrderBatchStatusUpdateDto.builder()
+                .userId(request.getUserId())
+                .newStatus(toOrderStatus(request.getNewStatus()))
+                .orderIds(request.getOrderIdsList())
+                .build();
+    }
+
+    public static OrderDeleteRequestDto toDeleteRequest(Trade.DeleteOrderRequest request) {
+        return OrderDeleteRequestDto.builder()
+                .userId(request.getUserId())
+                .orderId(request.getOrderId())
+                .build();
+    }
+
+    public static Invoice toInvoice(Trade.Invoice invoice) {
+        return switch (invoice) {
+            case INVOICE_UNSPECIFIED -> null;
+            case UNRECOGNIZED -> throw new CustomException(CustomError.INVALID_FIELD_TYPE);
+            default -> Invoice.valueOf(invoice.name());
+        };
+    }
+
+    public static ItemType toItemType(Trade.ItemType itemType) {
+        return switch (itemType) {
+            case ITEM_TYPE_UNSPECIFIED -> null;
+            case UNRECOGNIZED -> throw new CustomException(CustomError.INVALID_FIELD_TYPE);
+            default -> ItemType.valueOf(itemType.name());
+        };
+    }
+
+    public static OrderStatus toOrderStatus(Trade.OrderStatus status) {
+        return switch (status) {
+            case ORDER_STATUS_UNSPECIFIED -> null;
+            case UNRECOGNIZED -> throw new CustomException(CustomError.INVALID_FIELD_TYPE);
+            default -> OrderStatus.valueOf(status.name());
+        };
+    }
+}
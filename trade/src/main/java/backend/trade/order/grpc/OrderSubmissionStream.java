@@ -0,0 +1,250 @@
+package backend.trade.order.grpc;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import backend.trade.order.dto.OrderRegisterRequestDto;
+import backend.trade.order.dto.OrderRegisterResultDto;
+import backend.trade.order.model.Order;
+import backend.trade.order.service.OrderService;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.extern.slf4j.Slf4j;
+import trade.Trade;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SubmitOrders stream 하나의 처리 상태
+ * - 한 번에 group-size 건만 요청(request)해서 받고, 모이면 하나의 트랜잭션으로 commit 후 다음 group 을 요청
+ * - group 이 다 차지 않아도 첫 건을 받은 뒤 linger 가 지나면 commit
+ *   (scheduler 는 타이머로만 쓰고 commit 은 flushExecutor 에서, 한 stream 의 DB 트랜잭션이 다른 stream 의 linger 를 막지 않도록)
+ * - 응답 쪽이 밀려서(isReady == false) 있으면 onReady 가 올 때까지 추가 요청을 미룸
+ * - group commit 이 실패하면 해당 group 만 건별로 다시 처리해서 실패한 건만 오류로 ack
+ */
+@Slf4j
+class OrderSubmissionStream implements StreamObserver<Trade.OrderSubmission> {
+
+    private final ServerCallStreamObserver<Trade.OrderAck> responseObserver;
+    private final OrderService orderService;
+    private final Long userId;
+    private final int groupSize;
+    private final long lingerMillis;
+    private final ScheduledExecutorService scheduler;
+    private final Executor flushExecutor;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<Trade.OrderSubmission> buffer = new ArrayList<>();
+    private ScheduledFuture<?> lingerFlush;
+    // flush 할 때마다 증가, 이미 넘겨진 linger flush 가 다음 group 을 일찍 commit 하지 않도록
+    private long flushCount;
+    private int deferredRequests;
+    private boolean closed;
+
+    OrderSubmissionStream(ServerCallStreamObserver<Trade.OrderAck> responseObserver, OrderService orderService,
+                          Long userId, int groupSize, long lingerMillis,
+                          ScheduledExecutorService scheduler, Executor flushExecutor) {
+        this.responseObserver = responseObserver;
+        this.orderService = orderService;
+        this.userId = userId;
+        this.groupSize = groupSize;
+        this.lingerMillis = lingerMillis;
+        this.scheduler = scheduler;
+        this.flushExecutor = flushExecutor;
+    }
+
+    /**
+     * 자동 요청을 끄고 첫 group 만큼 요청
+     */
+    void start() {
+        responseObserver.disableAutoRequest();
+        responseObserver.setOnReadyHandler(this::onReady);
+        responseObserver.request(groupSize);
+    }
+
+    @Override
+    public void onNext(Trade.OrderSubmission submission) {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            buffer.add(submission);
+            if (buffer.size() >= groupSize) {
+                flush();
+            } else if (buffer.size() == 1) {
+                long expectedFlushCount = flushCount;
+                lingerFlush = scheduler.schedule(() -> handOffLinger(expectedFlushCount), lingerMillis, TimeUnit.MILLISECONDS);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        lock.lock();
+        try {
+            closed = true;
+            cancelLinger();
+            log.warn("SubmitOrders stream closed by client, {} pending order(s) dropped :: {}", buffer.size(), t.getMessage());
+            buffer.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void onCompleted() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+            responseObserver.onCompleted();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onReady() {
+        lock.lock();
+        try {
+            if (deferredRequests > 0 && !closed) {
+                int requests = deferredRequests;
+                deferredRequests = 0;
+                responseObserver.request(requests);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void handOffLinger(long expectedFlushCount) {
+        try {
+            flushExecutor.execute(() -> flushOnLinger(expectedFlushCount));
+        } catch (RejectedExecutionException e) {
+            log.warn("Order group linger flush rejected, waiting for the next group :: {}", e.getMessage());
+        }
+    }
+
+    private void flushOnLinger(long expectedFlushCount) {
+        lock.lock();
+        try {
+            if (!closed && flushCount == expectedFlushCount) {
+                flush();
+            }
+        } catch (Exception e) {
+            log.error("Error flushing order group :: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * lock 을 잡은 상태에서 호출
+     */
+    private void flush() {
+        cancelLinger();
+        if (buffer.isEmpty()) {
+            return;
+        }
+        flushCount++;
+        List<Trade.OrderSubmission> group = new ArrayList<>(buffer);
+        buffer.clear();
+
+        for (Trade.OrderAck ack : commit(group)) {
+            if (responseObserver.isCancelled()) {
+                closed = true;
+                return;
+            }
+            responseObserver.onNext(ack);
+        }
+
+        // 처리한 만큼 다음 주문을 요청, 응답 쪽이 밀려 있으면 onReady 까지 미룸
+        if (responseObserver.isReady()) {
+            responseObserver.request(group.size());
+        } else {
+            deferredRequests += group.size();
+        }
+    }
+
+    private List<Trade.OrderAck> commit(List<Trade.OrderSubmission> group) {
+        List<Trade.OrderAck> acks = new ArrayList<>(group.size());
+        List<OrderRegisterRequestDto> requests = new ArrayList<>(group.size());
+        List<Trade.OrderSubmission> accepted = new ArrayList<>(group.size());
+
+        for (Trade.OrderSubmission submission : group) {
+            try {
+                requests.add(OrderGrpcMapper.toRegisterRequest(submission.getOrder()));
+                accepted.add(submission);
+            } catch (CustomException e) {
+                acks.add(failure(submission, e.getCustomError()));
+            }
+        }
+        if (requests.isEmpty()) {
+            return acks;
+        }
+
+        try {
+            List<OrderRegisterResultDto> results = orderService.createOrders(userId, requests);
+            for (int i = 0; i < results.size(); i++) {
+                acks.add(toAck(accepted.get(i), results.get(i)));
+            }
+        } catch (Exception e) {
+            log.warn("Order group commit failed, retrying {} order(s) one by one :: {}", requests.size(), e.getMessage());
+            for (int i = 0; i < requests.size(); i++) {
+                acks.add(commitOne(accepted.get(i), requests.get(i)));
+            }
+        }
+        return acks;
+    }
+
+    private Trade.OrderAck commitOne(Trade.OrderSubmission submission, OrderRegisterRequestDto request) {
+        try {
+            Order order = orderService.createOrder(userId, request);
+            return Trade.OrderAck.newBuilder()
+                    .setSequence(submission.getSequence())
+                    .setOrderId(order.getId())
+                    .build();
+        } catch (CustomException e) {
+            return failure(submission, e.getCustomError());
+        } catch (Exception e) {
+            log.error("error !", e);
+            return failure(submission, CustomError.SERVER_ERROR);
+        }
+    }
+
+    private Trade.OrderAck toAck(Trade.OrderSubmission submission, OrderRegisterResultDto result) {
+        Trade.OrderAck.Builder ack = Trade.OrderAck.newBuilder().setSequence(submission.getSequence());
+        if (result.isSuccess()) {
+            return ack.setOrderId(result.getOrderId()).build();
+        }
+        return ack.setErrorCode(result.getErrorCode())
+                .setMessage(result.getMessage())
+                .build();
+    }
+
+    private Trade.OrderAck failure(Trade.OrderSubmission submission, CustomError error) {
+        return Trade.OrderAck.newBuilder()
+                .setSequence(submission.getSequence())
+                .setErrorCode(error.getErrorCode())
+                .setMessage(error.getMessage())
+                .build();
+    }
+
+    private void cancelLinger() {
+        if (lingerFlush != null) {
+            lingerFlush.cancel(false);
+            lingerFlush = null;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package backend.trade.order.grpc;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.grpc.GrpcAuthContext;
+import backend.trade.common.grpc.GrpcErrors;
+import backend.trade.order.dto.OrderPageDto;
+import backend.trade.order.dto.OrderRegisterRequestDto;
+import backend.trade.order.dto.OrderRegisterResultDto;
+import backend.trade.order.dto.OrderStatusChangeResultDto;
+import backend.trade.order.dto.OrderStatusUpdateResultDto;
+import backend.trade.order.model.Order;
+import backend.trade.order.service.OrderExportService;
+import backend.trade.order.service.OrderService;
+import backend.trade.order.service.OrderSummaryService;
+import backend.trade.order.watch.OrderWatchHub;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.annotation.PreDestroy;
+import net.devh.boot.grpc.server.service.GrpcService;
+import org.springframework.beans.factory.annotation.Value;
+import trade.Trade;
+import trade.TradeServiceGrpc;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 API 의 gRPC 버전 (grpc.server.port)
+ * 인증은 GrpcAuthServerInterceptor 가 metadata 로 수행하고, 나머지는 OrderService 에 위임
+ * 예외는 GrpcExceptionAdvice 에서 Status 로 변환
+ */
+@GrpcService
+public class TradeGrpcService extends TradeServiceGrpc.TradeServiceImplBase {
+
+    private final OrderService orderService;
+    private final OrderSummaryService orderSummaryService;
+    private final OrderExportService orderExportService;
+    private final OrderWatchHub orderWatchHub;
+    private final int streamGroupSize;
+    private final long streamLingerMillis;
+    private final int exportChunkSize;
+    private final ScheduledExecutorService streamScheduler;
+    private final ExecutorService streamFlushExecutor;
+    private final ExecutorService exportExecutor;
+
+    public TradeGrpcService(OrderService orderService, OrderSummaryService orderSummaryService,
+                            OrderExportService orderExportService, OrderWatchHub orderWatchHub,
+                            @Value("${trade.order.stream.group-size:50}") int streamGroupSize,
+                            @Value("${trade.order.stream.linger-ms:20}") long streamLingerMillis,
+                            @Value("${trade.order.stream.flush-threads:4}") int streamFlushThreads,
+                            @Value("${trade.order.export.chunk-size:500}") int exportChunkSize,
+                            @Value("${trade.order.export.grpc-threads:2}") int exportThreads,
+                            @Value("${trade.order.export.grpc-queue-size:8}") int exportQueueSize) {
+        this.orderService = orderService;
+        this.orderSummaryService = orderSummaryService;
+        this.orderExportService = orderExportService;
+        this.orderWatchHub = orderWatchHub;
+        this.streamGroupSize = streamGroupSize;
+        this.streamLingerMillis = streamLingerMillis;
+        this.exportChunkSize = exportChunkSize;
+        this.streamScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-linger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // linger 로 commit 하는 group 은 별도 스레드에서 (scheduler 스레드 하나가 DB 트랜잭션을 기다리지 않도록)
+        // stream 당 대기 중인 linger flush 는 최대 하나라서 대기열은 열린 stream 수로 제한됨
+        AtomicInteger flushThreadNumber = new AtomicInteger();
+        this.streamFlushExecutor = Executors.newFixedThreadPool(streamFlushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-stream-flush-" + flushThreadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger exportThreadNumber = new AtomicInteger();
+        // 대기열도 제한 (넘으면 RESOURCE_EXHAUSTED, 끝없이 쌓인 stream 이 각자 deadline 까지 기다리지 않도록)
+        this.exportExecutor = new ThreadPoolExecutor(exportThreads, exportThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(exportQueueSize), runnable -> {
+            Thread thread = new Thread(runnable, "order-export-" + exportThreadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void createOrder(Trade.CreateOrderRequest request, StreamObserver<Trade.OrderResponse> responseObserver) {
+        Order order = orderService.createOrder(GrpcAuthContext.currentUserId(), OrderGrpcMapper.toRegisterRequest(request));
+        respond(responseObserver, order);
+    }
+
+    @Override
+    public void updateOrderStatus(Trade.UpdateOrderStatusRequest request, StreamObserver<Trade.UpdateOrderStatusResponse> responseObserver) {
+        OrderStatusUpdateResultDto result = orderService.updateOrderStatus(GrpcAuthContext.currentUserId(), OrderGrpcMapper.toStatusUpdate(request));
+        responseObserver.onNext(OrderGrpcMapper.toStatusUpdateResponse(result));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getOrder(Trade.GetOrderRequest request, StreamObserver<Trade.OrderResponse> responseObserver) {
+        Order order = orderService.getOrder(GrpcAuthContext.currentUserId(), request.getOrderId());
+        respond(responseObserver, order);
+    }
+
+    @Override
+    public void listOrders(Trade.ListOrdersRequest request, StreamObserver<Trade.ListOrdersResponse> responseObserver) {
+        Long userId = GrpcAuthContext.currentUserId();
+        orderService.verifyRequestUser(userId, request.getUserId());
+
+        OrderPageDto page = orderService.getPagedOrders(userId, OrderGrpcMapper.toInvoice(request.getInvoice()),
+                orderService.parseDateString(request.getFrom()), orderService.parseDateString(request.getTo()),
+                request.getLimit(), request.getCursor());
+
+        Trade.ListOrdersResponse.Builder response = Trade.ListOrdersResponse.newBuilder();
+        page.getOrders().forEach(order -> response.addOrders(OrderGrpcMapper.toMessage(order)));
+        if (page.hasNext()) {
+            response.setNextCursor(page.getNextCursor());
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getPositions(Trade.GetPositionsRequest request, StreamObserver<Trade.GetPositionsResponse> responseObserver) {
+        Long userId = orderService.verifyRequestUser(GrpcAuthContext.currentUserId(), request.getUserId());
+
+        Trade.GetPositionsResponse.Builder response = Trade.GetPositionsResponse.newBuilder();
+        orderSummaryService.getPositions(userId).forEach(position -> response.addPositions(OrderGrpcMapper.toMessage(position)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void getDailyVolumes(Trade.GetDailyVolumesRequest request, StreamObserver<Trade.GetDailyVolumesResponse> responseObserver) {
+        Long userId = orderService.verifyRequestUser(GrpcAuthContext.currentUserId(), request.getUserId());
+
+        Trade.GetDailyVolumesResponse.Builder response = Trade.GetDailyVolumesResponse.newBuilder();
+        orderSummaryService.getDailyVolumes(userId, orderSummaryService.parseDayString(request.getFrom()),
+                        orderSummaryService.parseDayString(request.getTo()))
+                .forEach(volume -> response.addVolumes(OrderGrpcMapper.toMessage(volume)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void deleteOrder(Trade.DeleteOrderRequest request, StreamObserver<Trade.DeleteOrderResponse> responseObserver) {
+        orderService.deleteOrder(GrpcAuthContext.currentUserId(), OrderGrpcMapper.toDeleteRequest(request));
+        responseObserver.onNext(Trade.DeleteOrderResponse.newBuilder().setSuccess(true).build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void bulkCreateOrders(Trade.BulkCreateOrdersRequest request, StreamObserver<Trade.BulkCreateOrdersResponse> responseObserver) {
+        List<OrderRegisterRequestDto> orderRequests = request.getOrdersList().stream()
+                .map(OrderGrpcMapper::toRegisterRequest)
+                .toList();
+        List<OrderRegisterResultDto> results = orderService.createOrders(GrpcAuthContext.currentUserId(), orderRequests);
+
+        Trade.BulkCreateOrdersResponse.Builder response = Trade.BulkCreateOrdersResponse.newBuilder();
+        results.forEach(result -> response.addResults(OrderGrpcMapper.toAck(result)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void batchUpdateOrderStatus(Trade.BatchUpdateOrderStatusRequest request, StreamObserver<Trade.BatchUpdateOrderStatusResponse> responseObserver) {
+        List<OrderStatusChangeResultDto> results = orderService.updateOrderStatuses(GrpcAuthContext.currentUserId(),
+                OrderGrpcMapper.toBatchStatusUpdate(request));
+
+        Trade.BatchUpdateOrderStatusResponse.Builder response = Trade.BatchUpdateOrderStatusResponse.newBuilder();
+        results.forEach(result -> response.addResults(OrderGrpcMapper.toStatusResult(result)));
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    /**
+     * 주문을 stream 으로 받아 group 단위로 commit 하고 건별 ack 를 sequence 와 함께 반환
+     * 클라이언트는 ack 를 받는 만큼만 다음 주문을 보낼 수 있음 (flow control)
+     */
+    @Override
+    public StreamObserver<Trade.OrderSubmission> submitOrders(StreamObserver<Trade.OrderAck> responseObserver) {
+        OrderSubmissionStream stream = new OrderSubmissionStream(
+                (ServerCallStreamObserver<Trade.OrderAck>) responseObserver, orderService,
+                GrpcAuthContext.currentUserId(), streamGroupSize, streamLingerMillis, streamScheduler, streamFlushExecutor);
+        stream.start();
+        return stream;
+    }
+
+    /**
+     * 상태 변경을 push 하는 stream 은 클라이언트가 끊거나 서버가 종료될 때까지 유지
+     */
+    @Override
+    public void watchOrders(Trade.WatchOrdersRequest request, StreamObserver<Trade.OrderStatusEvent> responseObserver) {
+        orderWatchHub.register(new GrpcOrderWatcher(orderWatchHub, GrpcAuthContext.currentUserId(),
+                request.getOrderIdsList(), (ServerCallStreamObserver<Trade.OrderStatusEvent>) responseObserver));
+    }
+
+    /**
+     * 동시 export 는 export 스레드 수만큼 처리되고, grpc-queue-size 개까지 대기, 그 이상은 거절
+     */
+    @Override
+    public void exportOrders(Trade.ExportOrdersRequest request, StreamObserver<Trade.ExportOrdersResponse> responseObserver) {
+        OrderExportStream stream = new OrderExportStream((ServerCallStreamObserver<Trade.ExportOrdersResponse>) responseObserver,
+                orderExportService, GrpcAuthContext.currentUserId(), orderService.parseDateString(request.getFrom()),
+                orderService.parseDateString(request.getTo()), exportChunkSize);
+        try {
+            stream.start(exportExecutor);
+        } catch (RejectedExecutionException e) {
+            responseObserver.onError(GrpcErrors.toStatusException(CustomError.TOO_MANY_EXPORTS));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamScheduler.shutdownNow();
+        streamFlushExecutor.shutdownNow();
+        exportExecutor.shutdownNow();
+    }
+
+    private void respond(StreamObserver<Trade.OrderResponse> responseObserver, Order order) {
+        responseObserver.onNext(Trade.OrderResponse.newBuilder()
+                .setOrder(OrderGrpcMapper.toMessage(order))
+                .build());
+        responseObserver.onCompleted();
+    }
+}
@@ -0,0 +1,29 @@
+package backend.trade.order.id;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 번호 생성기
+ * 여러 노드, 여러 스레드에서 동시에 호출해도 중복되지 않는 번호를 반환해야 함
+ */
+public interface OrderIdGenerator {
+
+    /**
+     * @return ORDER- 로 시작하는 주문 번호
+     */
+    String nextId();
+
+    /**
+     * 여러 건을 한 번에 발급 (대량 등록용)
+     * @param count
+     * @return 발급 순서대로의 주문 번호
+     */
+    default List<String> nextIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(nextId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,178 @@
+package backend.trade.order.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake 방식 주문 번호 : ORDER-{yyyyMMdd}-{19자리 숫자}
+ * - 숫자 = 41bit timestamp (EPOCH 이후 millis) | 10bit node id | 12bit sequence
+ * - 한 노드 안에서는 항상 증가하고, node id 가 다르면 절대 겹치지 않음
+ * - 숫자를 19자리로 채우므로 문자열 정렬 = 생성 순서 (PK 인덱스에 뒤로만 추가됨)
+ *
+ * 상태(timestamp, sequence)는 AtomicLong 하나에 담아 CAS 로 갱신 (lock 없음)
+ * - 같은 millis 에 4096 개를 넘기거나 시계가 뒤로 가면 다음 millis 를 미리 사용
+ * - 대량 발급(nextIds)은 CAS 한 번에 최대 4096 개 구간을 예약
+ * - 미리 사용한 시간이 clock-skew-tolerance 를 넘으면 시계가 따라올 때까지 대기
+ * - 시계가 max-clock-backward 이상 뒤로 가면 중복 위험이 있으므로 예외
+ */
+@Component
+@Slf4j
+public class SnowflakeOrderIdGenerator implements OrderIdGenerator {
+
+    /** 2024-01-01T00:00:00Z, 41bit 로 약 69년 */
+    static final long EPOCH = 1704067200000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final String PREFIX = "ORDER-";
+    private static final int ID_DIGITS = 19;
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final long nodeId;
+    private final long skewToleranceMillis;
+    private final long maxBackwardMillis;
+    private final LongSupplier clock;
+    private final ZoneId zone;
+
+    /** (timestamp - EPOCH) << SEQUENCE_BITS | sequence */
+    private final AtomicLong state = new AtomicLong();
+    private volatile DayPrefix dayPrefix;
+
+    public SnowflakeOrderIdGenerator(@Value("${trade.order.id.node-id:0}") long nodeId,
+                                     @Value("${trade.order.id.clock-skew-tolerance-ms:10}") long skewToleranceMillis,
+                                     @Value("${trade.order.id.max-clock-backward-ms:2000}") long maxBackwardMillis) {
+        this(nodeId, skewToleranceMillis, maxBackwardMillis, System::currentTimeMillis, ZoneId.systemDefault());
+    }
+
+    SnowflakeOrderIdGenerator(long nodeId, long skewToleranceMillis, long maxBackwardMillis,
+                              LongSupplier clock, ZoneId zone) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("trade.order.id.node-id must be between 0 and " + MAX_NODE_ID + " : " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.skewToleranceMillis = skewToleranceMillis;
+        this.maxBackwardMillis = maxBackwardMillis;
+        this.clock = clock;
+        this.zone = zone;
+        log.info("Order id generator node id : {}", nodeId);
+    }
+
+    @Override
+    public String nextId() {
+        return format(nextValue());
+    }
+
+    /**
+     * 최대 4096 개(1 millis 분량)씩 CAS 한 번으로 구간을 예약해서 발급
+     */
+    @Override
+    public List<String> nextIds(int count) {
+        List<String> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blockSize = (int) Math.min(count - ids.size(), SEQUENCE_MASK + 1);
+            long first = reserve(blockSize);
+            for (int i = 0; i < blockSize; i++) {
+                ids.add(format(toValue(first + i)));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * @return 노드 안에서 단조 증가하는 64bit 번호
+     */
+    public long nextValue() {
+        return toValue(reserve(1));
+    }
+
+    /**
+     * state 를 count 만큼 전진시키고 예약한 구간의 첫 state 를 반환
+     * state 는 (millis << SEQUENCE_BITS | sequence) 이므로 sequence 가 넘치면 자연히 다음 millis 로 넘어감
+     */
+    private long reserve(int count) {
+        while (true) {
+            long now = clock.getAsLong() - EPOCH;
+            long current = state.get();
+            long lastMillis = current >>> SEQUENCE_BITS;
+
+            long first;
+            if (now > lastMillis) {
+                first = now << SEQUENCE_BITS;
+            } else {
+                long ahead = lastMillis - now;
+                if (ahead > maxBackwardMillis) {
+                    throw new IllegalStateException("Clock moved backwards by " + ahead + "ms, refusing to generate order id");
+                }
+                if (ahead > skewToleranceMillis) {
+                    // 시계가 따라올 때까지 대기
+                    LockSupport.parkNanos(1_000_000L);
+                    continue;
+                }
+                // 같은 millis (또는 시계가 조금 뒤로 감) : sequence 증가, 넘치면 다음 millis 로
+                first = current + 1;
+            }
+
+            if (state.compareAndSet(current, first + count - 1)) {
+                return first;
+            }
+        }
+    }
+
+    private long toValue(long reservedState) {
+        long millis = reservedState >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | (reservedState & SEQUENCE_MASK);
+    }
+
+    /**
+     * @param value nextValue 로 만든 번호
+     * @return ORDER-{번호가 생성된 날짜}-{19자리 번호}
+     */
+    public String format(long value) {
+        long epochMillis = timestampOf(value);
+        DayPrefix prefix = dayPrefix;
+        if (prefix == null || epochMillis < prefix.startMillis || epochMillis >= prefix.endMillis) {
+            prefix = dayPrefixOf(epochMillis);
+            dayPrefix = prefix;
+        }
+
+        String digits = Long.toString(value);
+        StringBuilder builder = new StringBuilder(prefix.text.length() + ID_DIGITS);
+        builder.append(prefix.text);
+        for (int i = digits.length(); i < ID_DIGITS; i++) {
+            builder.append('0');
+        }
+        return builder.append(digits).toString();
+    }
+
+    /**
+     * @param value
+     * @return 번호에 담긴 생성 시각 (epoch millis)
+     */
+    public static long timestampOf(long value) {
+        return (value >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    private DayPrefix dayPrefixOf(long epochMillis) {
+        LocalDate day = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate();
+        long start = day.atStartOfDay(zone).toInstant().toEpochMilli();
+        long end = day.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new DayPrefix(PREFIX + day.format(DAY_FORMATTER) + "-", start, end);
+    }
+
+    private record DayPrefix(String text, long startMillis, long endMillis) {
+    }
+}
@@ -1,17 +1,23 @@
 package backend.trade.order.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Builder
 @Getter
-@Table(name = "order_table")
+@Table(name = "order_table", indexes = {
+        // 주문 목록 keyset 조회용 (resources/db/order_table_indexes.sql)
+        @Index(name = "idx_order_user_date_id", columnList = "user_id, order_date, id"),
+        @Index(name = "idx_order_user_invoice_date_id", columnList = "user_id, invoice, order_date, id")
+})
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Order {
+public class Order implements Persistable<String> {
 
     @Id
     private String id;
@@ -33,8 +39,31 @@ public class Order {
 
     private String shippingAddress;
 
+    // 엔티티로 수정/삭제하는 경로의 낙관적 잠금 (상태 전환 UPDATE 에서도 증가시킴)
+    @Version
+    private Long version;
+
+    // id 를 직접 할당하므로 save 시 select 후 merge 하지 않고 바로 insert 하기 위한 표시
+    // (번호가 겹치면 기존 주문을 덮어쓰지 않고 PK 중복 예외 발생)
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     public void setStatus(OrderStatus status) {
         this.status = status;
     }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 }
 
@@ -0,0 +1,55 @@
+package backend.trade.order.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 사용자별 일별 주문 요약 (resources/db/order_summary.sql)
+ * 엔티티로 수정하지 않고 OrderSummaryRepository 의 증감 upsert 로만 변경
+ */
+@Entity
+@Getter
+@Table(name = "order_daily_summary")
+@IdClass(OrderDailySummary.Key.class)
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderDailySummary {
+
+    @Id
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private ItemType itemType;
+
+    @Id
+    private LocalDate tradeDate;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal purchaseQuantity;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal sellQuantity;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal settledPurchaseQuantity;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal settledSellQuantity;
+
+    private Long orderCount;
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private ItemType itemType;
+        private LocalDate tradeDate;
+    }
+}
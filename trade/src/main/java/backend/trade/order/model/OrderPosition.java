@@ -0,0 +1,64 @@
+package backend.trade.order.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * 사용자별 누적 포지션 (resources/db/order_summary.sql)
+ * order_daily_summary 와 같은 트랜잭션에서 같은 증감으로 갱신되므로, 포지션 조회는 기본 키 조회 한 번
+ */
+@Entity
+@Getter
+@Table(name = "order_position")
+@IdClass(OrderPosition.Key.class)
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderPosition {
+
+    @Id
+    private Long userId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    private ItemType itemType;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal purchaseQuantity;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal sellQuantity;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal settledPurchaseQuantity;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal settledSellQuantity;
+
+    private Long orderCount;
+
+    /**
+     * 순 포지션 (구매 - 판매, gram)
+     */
+    public BigDecimal getNetQuantity() {
+        return purchaseQuantity.subtract(sellQuantity);
+    }
+
+    /**
+     * 거래가 끝난 주문만의 순 포지션
+     */
+    public BigDecimal getSettledNetQuantity() {
+        return settledPurchaseQuantity.subtract(settledSellQuantity);
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Key implements Serializable {
+        private Long userId;
+        private ItemType itemType;
+    }
+}
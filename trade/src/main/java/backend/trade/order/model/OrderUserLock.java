@@ -0,0 +1,19 @@
+package backend.trade.order.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 사용자별 요약 잠금 행 (resources/db/order_summary.sql)
+ * 요약을 바꾸는 주문 쓰기와 OrderSummaryRebuildJob 이 트랜잭션 처음에 이 행을 잠가서 같은 사용자에 대해 차례로 실행
+ */
+@Entity
+@Getter
+@Table(name = "order_user_lock")
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderUserLock {
+
+    @Id
+    private Long userId;
+}
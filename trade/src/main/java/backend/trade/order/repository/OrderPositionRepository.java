@@ -0,0 +1,48 @@
+package backend.trade.order.repository;
+
+import backend.trade.order.model.OrderPosition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+public interface OrderPositionRepository extends JpaRepository<OrderPosition, OrderPosition.Key> {
+
+    List<OrderPosition> findByUserIdOrderByItemType(Long userId);
+
+    /**
+     * (userId, itemType) 행에 증감을 더함, 없으면 증감 값으로 생성 (OrderSummaryRepository.addDaily 와 같은 방식)
+     */
+    @Modifying
+    @Query(value = "insert into order_position (user_id, item_type, purchase_quantity, sell_quantity, " +
+            "settled_purchase_quantity, settled_sell_quantity, order_count) " +
+            "values (:userId, :itemType, :purchase, :sell, :settledPurchase, :settledSell, :orderCount) " +
+            "on duplicate key update " +
+            "purchase_quantity = purchase_quantity + values(purchase_quantity), " +
+            "sell_quantity = sell_quantity + values(sell_quantity), " +
+            "settled_purchase_quantity = settled_purchase_quantity + values(settled_purchase_quantity), " +
+            "settled_sell_quantity = settled_sell_quantity + values(settled_sell_quantity), " +
+            "order_count = order_count + values(order_count)", nativeQuery = true)
+    int addPosition(@Param("userId") Long userId,
+                    @Param("itemType") String itemType,
+                    @Param("purchase") BigDecimal purchase,
+                    @Param("sell") BigDecimal sell,
+                    @Param("settledPurchase") BigDecimal settledPurchase,
+                    @Param("settledSell") BigDecimal settledSell,
+                    @Param("orderCount") long orderCount);
+
+    @Modifying
+    @Query(value = "delete from order_position where user_id between :fromUserId and :toUserId", nativeQuery = true)
+    int deletePositionsByUserRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+
+    @Query(value = "select min(user_id) from order_position", nativeQuery = true)
+    Long findMinUserId();
+
+    @Query(value = "select max(user_id) from order_position", nativeQuery = true)
+    Long findMaxUserId();
+}
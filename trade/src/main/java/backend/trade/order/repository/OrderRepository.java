@@ -1,15 +1,146 @@
 package backend.trade.order.repository;
 
+import backend.trade.order.dto.OrderExportRow;
 import backend.trade.order.model.Invoice;
 import backend.trade.order.model.Order;
+import backend.trade.order.model.OrderStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderRepository extends JpaRepository<Order, String> {
-    Optional<Order> findByOrderDateAndInvoice(LocalDateTime orderDate, Invoice invoice);
     Optional<Order> findByIdAndUserId(String id, Long userId);
+
+    /**
+     * 현재 상태가 expected 일 때만 newStatus 로 변경 (조회 없이 한 번에 compare-and-set)
+     * 엔티티로 수정하는 경로와 충돌을 감지할 수 있도록 version 도 증가
+     * 영속성 컨텍스트에 남은 이전 상태의 주문을 읽지 않도록 실행 후 비움
+     * @return 변경된 행 수 (0 이면 주문이 없거나, 다른 사용자 주문이거나, 상태가 이미 바뀜)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :newStatus, o.version = o.version + 1 " +
+            "where o.id = :id and o.userId = :userId and o.invoice = :invoice and o.status = :expected")
+    int transitionStatus(@Param("id") String id,
+                         @Param("userId") Long userId,
+                         @Param("invoice") Invoice invoice,
+                         @Param("expected") OrderStatus expected,
+                         @Param("newStatus") OrderStatus newStatus);
+
+    /**
+     * 여러 주문 상태 전환 전 검증용 조회, 전환이 끝날 때까지 다른 변경을 막기 위해 행 잠금
+     */
+    @Query(value = "select id, invoice, status from order_table " +
+            "where user_id = :userId and id in (:ids) for update", nativeQuery = true)
+    List<OrderStatusView> lockStatuses(@Param("userId") Long userId, @Param("ids") Collection<String> ids);
+
+    /**
+     * transitionStatus 의 여러 건 버전 (같은 (invoice, 직전 상태) 묶음을 UPDATE 한 번으로)
+     * @return 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.status = :newStatus, o.version = o.version + 1 " +
+            "where o.id in :ids and o.userId = :userId and o.invoice = :invoice and o.status = :expected")
+    int transitionStatuses(@Param("ids") Collection<String> ids,
+                           @Param("userId") Long userId,
+                           @Param("invoice") Invoice invoice,
+                           @Param("expected") OrderStatus expected,
+                           @Param("newStatus") OrderStatus newStatus);
+
+    /**
+     * 요약 증감 계산용 조회 (거래가 끝나는 상태 전환 후)
+     */
+    @Query("select o.userId as userId, o.itemType as itemType, o.invoice as invoice, " +
+            "o.quantity as quantity, o.orderDate as orderDate, o.status as status " +
+            "from Order o where o.id in :ids")
+    List<OrderSummaryView> findSummaryViews(@Param("ids") Collection<String> ids);
+
+    /**
+     * 요약 재계산용으로 사용자 id 범위의 주문을 한 행씩 읽음 (잠그지 않는 조회)
+     * 트랜잭션 안에서 사용하고, 다 읽은 뒤 반드시 close
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select o.userId as userId, o.itemType as itemType, o.invoice as invoice, " +
+            "o.quantity as quantity, o.orderDate as orderDate, o.status as status " +
+            "from Order o where o.userId between :fromUserId and :toUserId")
+    Stream<OrderSummaryView> streamSummaryViewsByUserRange(@Param("fromUserId") Long fromUserId,
+                                                           @Param("toUserId") Long toUserId);
+
+    /**
+     * 요약 재계산 범위 (user_id 로 시작하는 인덱스의 양 끝만 읽음)
+     */
+    @Query(value = "select min(user_id) from order_table", nativeQuery = true)
+    Long findMinUserId();
+
+    @Query(value = "select max(user_id) from order_table", nativeQuery = true)
+    Long findMaxUserId();
+
+    /**
+     * 사용자 주문을 (orderDate, id) 내림차순으로 cursor 다음부터 조회 (keyset, count 없음)
+     * idx_order_user_date_id 범위 조회로 처리되므로 몇 번째 페이지든 비용이 같음
+     * 첫 페이지는 cursorDate = to, cursorId = "" 로 호출
+     */
+    @Query("select o from Order o " +
+            "where o.userId = :userId " +
+            "and o.orderDate >= :from " +
+            "and (o.orderDate < :cursorDate or (o.orderDate = :cursorDate and o.id < :cursorId)) " +
+            "order by o.orderDate desc, o.id desc")
+    List<Order> findPageByUser(@Param("userId") Long userId,
+                               @Param("from") LocalDateTime from,
+                               @Param("cursorDate") LocalDateTime cursorDate,
+                               @Param("cursorId") String cursorId,
+                               Pageable pageable);
+
+    /**
+     * findPageByUser 에 invoice 조건 추가 (idx_order_user_invoice_date_id)
+     */
+    @Query("select o from Order o " +
+            "where o.userId = :userId " +
+            "and o.invoice = :invoice " +
+            "and o.orderDate >= :from " +
+            "and (o.orderDate < :cursorDate or (o.orderDate = :cursorDate and o.id < :cursorId)) " +
+            "order by o.orderDate desc, o.id desc")
+    List<Order> findPageByUserAndInvoice(@Param("userId") Long userId,
+                                         @Param("invoice") Invoice invoice,
+                                         @Param("from") LocalDateTime from,
+                                         @Param("cursorDate") LocalDateTime cursorDate,
+                                         @Param("cursorId") String cursorId,
+                                         Pageable pageable);
+
+    /**
+     * 사용자의 기간 내 주문을 오래된 순으로 한 행씩 읽음 (내보내기용)
+     * fetch size 단위로 DB 에서 가져오므로 전체 결과를 메모리에 올리지 않음
+     * 트랜잭션 안에서 사용하고, 다 읽은 뒤 반드시 close
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("select new backend.trade.order.dto.OrderExportRow(" +
+            "o.id, o.orderDate, o.userId, o.status, o.itemType, o.invoice, o.quantity, o.shippingAddress) " +
+            "from Order o " +
+            "where o.userId = :userId " +
+            "and o.orderDate >= :from " +
+            "and o.orderDate < :to " +
+            "order by o.orderDate, o.id")
+    Stream<OrderExportRow> streamForExport(@Param("userId") Long userId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
 }
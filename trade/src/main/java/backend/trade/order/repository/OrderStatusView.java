@@ -0,0 +1,12 @@
+package backend.trade.order.repository;
+
+/**
+ * 상태 전환 검증용 최소 컬럼 (native query projection 이므로 enum 은 문자열)
+ */
+public interface OrderStatusView {
+    String getId();
+
+    String getInvoice();
+
+    String getStatus();
+}
@@ -0,0 +1,53 @@
+package backend.trade.order.repository;
+
+import backend.trade.order.model.OrderDailySummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface OrderSummaryRepository extends JpaRepository<OrderDailySummary, OrderDailySummary.Key> {
+
+    /**
+     * 사용자의 기간 내 일별 요약 (기본 키 범위 조회)
+     * @param to 포함
+     */
+    @Query("select s from OrderDailySummary s " +
+            "where s.userId = :userId and s.tradeDate >= :from and s.tradeDate <= :to " +
+            "order by s.tradeDate, s.itemType")
+    List<OrderDailySummary> findDaily(@Param("userId") Long userId,
+                                      @Param("from") LocalDate from,
+                                      @Param("to") LocalDate to);
+
+    /**
+     * (userId, itemType, tradeDate) 행에 증감을 더함, 없으면 증감 값으로 생성 (한 번에, 읽지 않음)
+     */
+    @Modifying
+    @Query(value = "insert into order_daily_summary (user_id, item_type, trade_date, purchase_quantity, sell_quantity, " +
+            "settled_purchase_quantity, settled_sell_quantity, order_count) " +
+            "values (:userId, :itemType, :tradeDate, :purchase, :sell, :settledPurchase, :settledSell, :orderCount) " +
+            "on duplicate key update " +
+            "purchase_quantity = purchase_quantity + values(purchase_quantity), " +
+            "sell_quantity = sell_quantity + values(sell_quantity), " +
+            "settled_purchase_quantity = settled_purchase_quantity + values(settled_purchase_quantity), " +
+            "settled_sell_quantity = settled_sell_quantity + values(settled_sell_quantity), " +
+            "order_count = order_count + values(order_count)", nativeQuery = true)
+    int addDaily(@Param("userId") Long userId,
+                 @Param("itemType") String itemType,
+                 @Param("tradeDate") LocalDate tradeDate,
+                 @Param("purchase") BigDecimal purchase,
+                 @Param("sell") BigDecimal sell,
+                 @Param("settledPurchase") BigDecimal settledPurchase,
+                 @Param("settledSell") BigDecimal settledSell,
+                 @Param("orderCount") long orderCount);
+
+    @Modifying
+    @Query(value = "delete from order_daily_summary where user_id between :fromUserId and :toUserId", nativeQuery = true)
+    int deleteDailyByUserRange(@Param("fromUserId") Long fromUserId, @Param("toUserId") Long toUserId);
+}
@@ -0,0 +1,25 @@
+package backend.trade.order.repository;
+
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 요약(order_daily_summary, order_position) 증감 계산용 최소 컬럼
+ * 상태 전환은 주문을 읽지 않으므로 거래가 끝나는 전환에서만 따로 조회, 재계산은 범위 내 주문을 모두 읽음
+ */
+public interface OrderSummaryView {
+    Long getUserId();
+
+    ItemType getItemType();
+
+    Invoice getInvoice();
+
+    Double getQuantity();
+
+    LocalDateTime getOrderDate();
+
+    OrderStatus getStatus();
+}
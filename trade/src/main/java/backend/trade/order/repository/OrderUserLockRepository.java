@@ -0,0 +1,21 @@
+package backend.trade.order.repository;
+
+import backend.trade.order.model.OrderUserLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderUserLockRepository extends JpaRepository<OrderUserLock, Long> {
+
+    /**
+     * 사용자 잠금 행을 트랜잭션 끝까지 배타 잠금, 없으면 만들면서 잠금
+     * (처음 주문하는 사용자도 잠글 수 있도록 SELECT ... FOR UPDATE 대신 upsert)
+     */
+    @Modifying
+    @Query(value = "insert into order_user_lock (user_id) values (:userId) " +
+            "on duplicate key update user_id = values(user_id)", nativeQuery = true)
+    int lock(@Param("userId") Long userId);
+}
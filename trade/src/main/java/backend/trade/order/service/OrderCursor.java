@@ -0,0 +1,41 @@
+package backend.trade.order.service;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 주문 목록 keyset 페이지 위치 : 마지막으로 내려준 주문의 (orderDate, id)
+ * 클라이언트에는 Base64 URL 문자열로만 노출 (형식에 의존하지 않도록)
+ */
+public record OrderCursor(LocalDateTime orderDate, String id) {
+
+    private static final char SEPARATOR = '|';
+
+    public String encode() {
+        String raw = orderDate + String.valueOf(SEPARATOR) + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor encode 로 만든 문자열
+     * @return 페이지 위치
+     */
+    public static OrderCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new CustomException(CustomError.INVALID_CURSOR);
+            }
+            return new OrderCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (CustomException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new CustomException(CustomError.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package backend.trade.order.service;
+
+import backend.trade.order.dto.OrderExportRow;
+import backend.trade.order.repository.OrderRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 주문 내역 내보내기 (정산, 대사 작업용)
+ * DB 에서 읽는 행을 바로 응답에 쓰므로 건수와 관계없이 메모리 사용량이 일정
+ * 대신 전송이 끝날 때까지 트랜잭션(DB 연결)을 잡고 있으므로, REST export 는 rest-concurrency 개까지만 동시에 실행
+ */
+@Service
+@Slf4j
+public class OrderExportService {
+
+    private static final int FLUSH_EVERY = 1000;
+    private static final String CSV_HEADER = "id,orderDate,userId,status,itemType,invoice,quantity,shippingAddress";
+
+    private final OrderRepository orderRepository;
+    private final ObjectMapper objectMapper;
+    private final Semaphore restExports;
+
+    public OrderExportService(OrderRepository orderRepository, ObjectMapper objectMapper,
+                              @Value("${trade.order.export.rest-concurrency:2}") int restConcurrency) {
+        this.orderRepository = orderRepository;
+        this.objectMapper = objectMapper;
+        this.restExports = new Semaphore(restConcurrency);
+    }
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * REST export 자리 확보 (기다리지 않음), 전송이 끝나면 releaseRestExport 로 반납
+     * 느린 클라이언트 몇 개가 연결 pool 을 모두 차지해서 다른 API 가 멈추지 않도록
+     */
+    public void acquireRestExport() {
+        if (!restExports.tryAcquire()) {
+            throw new CustomException(CustomError.TOO_MANY_EXPORTS);
+        }
+    }
+
+    public void releaseRestExport() {
+        restExports.release();
+    }
+
+    /**
+     * 기간 내 주문을 오래된 순으로 한 건씩 전달
+     * @param userId
+     * @param from null 이면 제한 없음
+     * @param to null 이면 제한 없음 (포함하지 않음)
+     * @param consumer
+     * @return 전달한 건수
+     */
+    @Transactional(readOnly = true)
+    public long forEach(Long userId, LocalDateTime from, LocalDateTime to, Consumer<OrderExportRow> consumer) {
+        long count = 0;
+        try (Stream<OrderExportRow> rows = orderRepository.streamForExport(userId,
+                from != null ? from : OrderService.MIN_ORDER_DATE,
+                to != null ? to : OrderService.MAX_ORDER_DATE)) {
+            Iterator<OrderExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 기간 내 주문을 format 으로 out 에 기록
+     * @return 기록한 건수
+     */
+    @Transactional(readOnly = true)
+    public long write(Long userId, LocalDateTime from, LocalDateTime to, Format format, OutputStream out) throws IOException {
+        try {
+            long count = switch (format) {
+                case NDJSON -> writeNdjson(userId, from, to, out);
+                case CSV -> writeCsv(userId, from, to, out);
+            };
+            log.info("Exported {} order(s) of user {} as {}", count, userId, format);
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private long writeNdjson(Long userId, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        // 행마다 flush 하지 않고, 행 사이에 공백 대신 줄바꿈만 씀
+        ObjectWriter rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            return forEach(userId, from, to, new FlushingConsumer<>(row -> {
+                rowWriter.writeValue(generator, row);
+                generator.writeRaw('\n');
+            }, generator::flush));
+        }
+    }
+
+    private long writeCsv(Long userId, LocalDateTime from, LocalDateTime to, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        long count = forEach(userId, from, to, new FlushingConsumer<>(row -> {
+            writer.write(row.id());
+            writer.write(',');
+            writer.write(String.valueOf(row.orderDate()));
+            writer.write(',');
+            writer.write(String.valueOf(row.userId()));
+            writer.write(',');
+            writer.write(String.valueOf(row.status()));
+            writer.write(',');
+            writer.write(String.valueOf(row.itemType()));
+            writer.write(',');
+            writer.write(String.valueOf(row.invoice()));
+            writer.write(',');
+            writer.write(String.valueOf(row.quantity()));
+            writer.write(',');
+            writer.write(csvField(row.shippingAddress()));
+            writer.write('\n');
+        }, writer::flush));
+        writer.flush();
+        return count;
+    }
+
+    /**
+     * 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀
+     */
+    static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    @FunctionalInterface
+    private interface IoConsumer<T> {
+        void accept(T value) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    /**
+     * FLUSH_EVERY 건마다 flush 해서 클라이언트가 받는 대로 처리할 수 있게 함
+     */
+    private static class FlushingConsumer<T> implements Consumer<T> {
+
+        private final IoConsumer<T> delegate;
+        private final IoAction flush;
+        private int written;
+
+        FlushingConsumer(IoConsumer<T> delegate, IoAction flush) {
+            this.delegate = delegate;
+            this.flush = flush;
+        }
+
+        @Override
+        public void accept(T value) {
+            try {
+                delegate.accept(value);
+                if (++written % FLUSH_EVERY == 0) {
+                    flush.run();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -2,168 +2,453 @@ package backend.trade.order.service;
 
 import backend.trade.common.exception.CustomError;
 import backend.trade.common.exception.CustomException;
+import backend.trade.order.dto.OrderBatchStatusUpdateDto;
 import backend.trade.order.dto.OrderDeleteRequestDto;
+import backend.trade.order.dto.OrderPageDto;
+import backend.trade.order.dto.OrderPageRequestDto;
 import backend.trade.order.dto.OrderRegisterRequestDto;
+import backend.trade.order.dto.OrderRegisterResultDto;
+import backend.trade.order.dto.OrderStatusChangeResultDto;
 import backend.trade.order.dto.OrderStatusUpdateDto;
-import backend.trade.common.grpc.AuthClientService;
+import backend.trade.order.dto.OrderStatusUpdateResultDto;
+import backend.trade.order.cache.OrderCache;
+import backend.trade.order.id.OrderIdGenerator;
 import backend.trade.order.model.Invoice;
 import backend.trade.order.model.Order;
 import backend.trade.order.model.OrderStatus;
 import backend.trade.order.repository.OrderRepository;
+import backend.trade.order.repository.OrderStatusView;
+import backend.trade.order.repository.OrderSummaryView;
+import backend.trade.order.watch.OrderStatusChangedEvent;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    // MariaDB DATETIME 범위 안의 양 끝값 (조회 기간을 지정하지 않았을 때)
+    static final LocalDateTime MIN_ORDER_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+    static final LocalDateTime MAX_ORDER_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final OrderRepository orderRepository;
-    private final AuthClientService authClientService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OrderIdGenerator orderIdGenerator;
+    private final EntityManager entityManager;
+    private final OrderCache orderCache;
+    private final OrderSummaryService orderSummaryService;
 
-    private String generateOrderNumber() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
-        return "ORDER-" + LocalDateTime.now().format(formatter);
-    }
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:500}")
+    private int batchSize;
+
+    @Value("${trade.order.bulk.max-size:10000}")
+    private int bulkMaxSize;
 
     /**
-     * grcp 서버에서 token claim id 가져오기 및 요청한 user 권한에 맞는 invoice 인지 검증
-     * @param authorizationHeader
+     * 인증 필터에서 검증된 userId 와 요청한 userId 가 일치하는지 검증
+     * @param userId SecurityContext 의 인증된 사용자 id
      * @param requestUserId
      * @return userId
      */
-    public Long extractAndVerifyToken(String authorizationHeader, Long requestUserId) {
-        String token = authorizationHeader.substring(7);
-        Long userId = authClientService.getUserIdFromToken(token);
-        if (!authClientService.verifyToken(token) || !userId.equals(requestUserId)) {
+    public Long verifyRequestUser(Long userId, Long requestUserId) {
+        if (userId == null || !userId.equals(requestUserId)) {
             throw new CustomException(CustomError.USER_NOT_AUTHENTICATED);
         }
         return userId;
     }
 
+    /**
+     * @param dateString yyyy-MM-dd'T'HH:mm:ss
+     * @return 비어 있으면 null
+     */
     public LocalDateTime parseDateString(String dateString) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
-        return LocalDateTime.parse(dateString, formatter);
+        if (dateString == null || dateString.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(dateString, DATE_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(CustomError.INVALID_FIELD_TYPE);
+        }
     }
 
     @Transactional
-    public Order createOrder(String token, OrderRegisterRequestDto orderRequest) {
-        Long userId = extractAndVerifyToken(token, orderRequest.getUserId());
-        String orderNumber = generateOrderNumber();
+    public Order createOrder(Long authenticatedUserId, OrderRegisterRequestDto orderRequest) {
+        Long userId = verifyRequestUser(authenticatedUserId, orderRequest.getUserId());
+        orderSummaryService.lockUser(userId);
+        Order order = orderRepository.save(newOrder(orderIdGenerator.nextId(), userId, orderRequest));
 
-        double roundedQuantity = BigDecimal.valueOf(orderRequest.getQuantity())
-                .setScale(2, RoundingMode.HALF_UP)
-                .doubleValue();
+        OrderSummaryDeltas deltas = new OrderSummaryDeltas();
+        deltas.created(order);
+        orderSummaryService.apply(deltas);
+        return order;
+    }
+
+    /**
+     * 여러 건의 주문을 하나의 트랜잭션으로 등록
+     * - 요청한 userId 가 인증된 사용자와 다르거나 필수 값이 없는 건은 건너뛰고 실패 결과로 반환
+     * - 주문 번호는 한 번에 발급하고, hibernate.jdbc.batch_size 건마다 flush/clear 해서
+     *   JDBC batch insert 로 보내면서 영속성 컨텍스트가 커지지 않도록 함
+     * 요약 증감은 (userId, itemType, 날짜) 별로 합쳐서 마지막에 한 번씩 반영 (사용자 잠금은 등록 전에 한 번)
+     * @param authenticatedUserId
+     * @param orderRequests 최대 trade.order.bulk.max-size 건
+     * @return 요청 순서대로의 건별 결과
+     */
+    @Transactional
+    public List<OrderRegisterResultDto> createOrders(Long authenticatedUserId, List<OrderRegisterRequestDto> orderRequests) {
+        if (orderRequests.size() > bulkMaxSize) {
+            throw new CustomException(CustomError.BULK_TOO_LARGE);
+        }
+
+        OrderRegisterResultDto[] results = new OrderRegisterResultDto[orderRequests.size()];
+        List<Integer> accepted = new ArrayList<>(orderRequests.size());
+        for (int i = 0; i < orderRequests.size(); i++) {
+            CustomError error = validateRegisterRequest(authenticatedUserId, orderRequests.get(i));
+            if (error != null) {
+                results[i] = OrderRegisterResultDto.failure(i, error);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            orderSummaryService.lockUser(authenticatedUserId);
+        }
+        List<String> orderIds = orderIdGenerator.nextIds(accepted.size());
+        OrderSummaryDeltas deltas = new OrderSummaryDeltas();
+        for (int k = 0; k < accepted.size(); k++) {
+            int index = accepted.get(k);
+            Order order = orderRepository.save(newOrder(orderIds.get(k), authenticatedUserId, orderRequests.get(index)));
+            results[index] = OrderRegisterResultDto.success(index, order.getId());
+            deltas.created(order);
+
+            if ((k + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        orderSummaryService.apply(deltas);
+        entityManager.flush();
+        entityManager.clear();
+        return Arrays.asList(results);
+    }
 
-        Order order = Order.builder()
-                .id(orderNumber)
+    /**
+     * @return 등록할 수 없는 요청이면 사유, 아니면 null
+     */
+    private CustomError validateRegisterRequest(Long authenticatedUserId, OrderRegisterRequestDto orderRequest) {
+        if (authenticatedUserId == null || !authenticatedUserId.equals(orderRequest.getUserId())) {
+            return CustomError.USER_NOT_AUTHENTICATED;
+        }
+        if (orderRequest.getInvoice() == null || orderRequest.getItemType() == null || orderRequest.getQuantity() <= 0) {
+            return CustomError.INVALID_FIELD_TYPE;
+        }
+        return null;
+    }
+
+    private Order newOrder(String orderId, Long userId, OrderRegisterRequestDto orderRequest) {
+        return Order.builder()
+                .id(orderId)
                 .userId(userId)
                 .invoice(orderRequest.getInvoice())
                 .orderDate(LocalDateTime.now())
                 .itemType(orderRequest.getItemType())
-                .quantity(roundedQuantity)
+                .quantity(roundQuantity(orderRequest.getQuantity()))
                 .shippingAddress(orderRequest.getShippingAddress())
                 .status(OrderStatus.ORDER_COMPLETED)
                 .build();
+    }
 
-        return orderRepository.save(order);
+    /**
+     * 수량은 gram 단위 소수점 두자리 (반올림)
+     * @param quantity
+     * @return 반올림된 수량
+     */
+    static double roundQuantity(double quantity) {
+        return BigDecimal.valueOf(quantity)
+                .setScale(2, RoundingMode.HALF_UP)
+                .doubleValue();
     }
 
+    /**
+     * 주문 상태 전환 (UPDATE 한 번, 성공 경로에서는 주문을 읽지 않음)
+     * 바꿀 상태로 (invoice, 직전 상태) 를 정하고 조건부 UPDATE 의 영향 행 수로 성공 여부 판단
+     * 동시에 같은 전환을 요청해도 하나만 성공
+     * 거래가 끝나는 전환(SHIPPED, RECEIVED)만 요약 반영을 위해 사용자를 잠그고 전환 후 주문을 한 번 읽음
+     * @param authenticatedUserId
+     * @param updateRequest
+     * @return 변경 결과
+     */
     @Transactional
-    public Order updateOrderStatus(String token, OrderStatusUpdateDto updateRequest) {
-        extractAndVerifyToken(token, updateRequest.getUserId());
+    public OrderStatusUpdateResultDto updateOrderStatus(Long authenticatedUserId, OrderStatusUpdateDto updateRequest) {
+        Long userId = verifyRequestUser(authenticatedUserId, updateRequest.getUserId());
+        OrderStatus newStatus = updateRequest.getNewStatus();
+
+        OrderStatusTransitions.Transition transition = OrderStatusTransitions.forTarget(newStatus);
+        if (transition == null) {
+            throw new CustomException(CustomError.STATUS_NOT_AVAILABLE);
+        }
+        if (OrderSummaryDeltas.isSettled(newStatus)) {
+            orderSummaryService.lockUser(userId);
+        }
 
-        Order order = orderRepository.findById(updateRequest.getOrderId())
-                        .orElseThrow(() -> new CustomException(CustomError.ORDER_NOT_FOUND));
+        int updated = orderRepository.transitionStatus(updateRequest.getOrderId(), userId,
+                transition.invoice(), transition.expected(), newStatus);
+        if (updated == 0) {
+            throw new CustomException(diagnoseFailedTransition(updateRequest.getOrderId(), userId, newStatus));
+        }
+        if (OrderSummaryDeltas.isSettled(newStatus)) {
+            applySettled(List.of(updateRequest.getOrderId()));
+        }
 
-        validateOrderStatusTransition(order.getInvoice(), order.getStatus(), updateRequest.getNewStatus());
-        order.setStatus(updateRequest.getNewStatus());
+        orderCache.evictAfterCommit(updateRequest.getOrderId());
+        LocalDateTime changedAt = LocalDateTime.now();
+        // 구독자에게는 commit 이후에 전달 (OrderWatchHub)
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(updateRequest.getOrderId(), userId, newStatus, changedAt));
+        return new OrderStatusUpdateResultDto(updateRequest.getOrderId(), newStatus, changedAt);
+    }
 
-        return orderRepository.save(order);
+    /**
+     * 전환이 실패한 이유 (실패한 경우에만 조회)
+     * @return ORDER_NOT_FOUND, STATUS_NOT_FOR_PURCHASE, STATUS_NOT_FOR_SELL, STATUS_NOT_AVAILABLE
+     */
+    private CustomError diagnoseFailedTransition(String orderId, Long userId, OrderStatus newStatus) {
+        Order order = orderRepository.findByIdAndUserId(orderId, userId).orElse(null);
+        if (order == null) {
+            return CustomError.ORDER_NOT_FOUND;
+        }
+        OrderStatusTransitions.Transition transition = OrderStatusTransitions.forTarget(newStatus);
+        if (order.getInvoice() != transition.invoice()) {
+            return order.getInvoice() == Invoice.PURCHASE ? CustomError.STATUS_NOT_FOR_PURCHASE : CustomError.STATUS_NOT_FOR_SELL;
+        }
+        return CustomError.STATUS_NOT_AVAILABLE;
     }
 
     /**
-     * 주문 상태 전환 검증
-     * PURCHASE : ORDER_COMPLETED 주문 완료 -> PAYMENT_COMPLETED 입금 완료 -> SHIPPED 발송 완료
-     * SELL : ORDER_COMPLETED 주문 완료 -> PAYMENT_RECEIVED 송금 완료 -> RECEIVED 수령 완료
-     * @param invoice
-     * @param currentStatus
-     * @param newStatus
+     * 여러 주문을 같은 상태로 한 번에 전환 (출고 등)
+     * 사용자 확인은 한 번, 주문은 batchSize 개씩 묶어서 처리
+     * - 묶음마다 SELECT ... FOR UPDATE 로 (invoice, 상태) 를 읽어 주문별로 검증
+     * - 전환 가능한 주문은 UPDATE ... WHERE id IN (...) AND invoice = ? AND status = ? 한 번으로 전환
+     * 일부 주문이 실패해도 나머지는 전환됨
+     * @param authenticatedUserId
+     * @param updateRequest
+     * @return 요청 순서대로의 주문별 결과
      */
-    private void validateOrderStatusTransition(Invoice invoice, OrderStatus currentStatus, OrderStatus newStatus) {
-        if (invoice == Invoice.PURCHASE) {
-            switch (currentStatus) {
-                case ORDER_COMPLETED:
-                    if (newStatus == OrderStatus.PAYMENT_COMPLETED) return;
-                    break;
-                case PAYMENT_COMPLETED:
-                    if (newStatus == OrderStatus.SHIPPED) return;
-                    break;
-                default:
-                    throw new CustomException(CustomError.STATUS_NOT_FOR_PURCHASE);
+    @Transactional
+    public List<OrderStatusChangeResultDto> updateOrderStatuses(Long authenticatedUserId, OrderBatchStatusUpdateDto updateRequest) {
+        Long userId = verifyRequestUser(authenticatedUserId, updateRequest.getUserId());
+        List<String> orderIds = updateRequest.getOrderIds() == null ? List.of() : updateRequest.getOrderIds();
+        if (orderIds.size() > bulkMaxSize) {
+            throw new CustomException(CustomError.BULK_TOO_LARGE);
+        }
+
+        OrderStatus newStatus = updateRequest.getNewStatus();
+        OrderStatusTransitions.Transition transition = OrderStatusTransitions.forTarget(newStatus);
+        if (transition == null) {
+            throw new CustomException(CustomError.STATUS_NOT_AVAILABLE);
+        }
+        if (OrderSummaryDeltas.isSettled(newStatus)) {
+            orderSummaryService.lockUser(userId);
+        }
+
+        // 같은 주문이 여러 번 있으면 한 번만 전환하고 결과는 모두 같게
+        List<String> distinctIds = new ArrayList<>(new LinkedHashSet<>(orderIds));
+        Map<String, CustomError> failures = new HashMap<>();
+        List<String> changed = new ArrayList<>(distinctIds.size());
+
+        for (int from = 0; from < distinctIds.size(); from += batchSize) {
+            List<String> chunk = distinctIds.subList(from, Math.min(distinctIds.size(), from + batchSize));
+            Map<String, OrderStatusView> current = new HashMap<>();
+            for (OrderStatusView view : orderRepository.lockStatuses(userId, chunk)) {
+                current.put(view.getId(), view);
             }
-        } else if (invoice == Invoice.SELL) {
-            switch (currentStatus) {
-                case ORDER_COMPLETED:
-                    if (newStatus == OrderStatus.PAYMENT_RECEIVED) return;
-                    break;
-                case PAYMENT_RECEIVED:
-                    if (newStatus == OrderStatus.RECEIVED) return;
-                    break;
-                default:
-                    throw new CustomException(CustomError.STATUS_NOT_FOR_SELL);
+
+            List<String> eligible = new ArrayList<>(chunk.size());
+            for (String orderId : chunk) {
+                CustomError error = checkTransition(current.get(orderId), transition);
+                if (error != null) {
+                    failures.put(orderId, error);
+                } else {
+                    eligible.add(orderId);
+                }
+            }
+            if (eligible.isEmpty()) {
+                continue;
+            }
+
+            int updated = orderRepository.transitionStatuses(eligible, userId, transition.invoice(), transition.expected(), newStatus);
+            if (updated != eligible.size()) {
+                // 행을 잠근 상태이므로 일어나지 않아야 함
+                throw new IllegalStateException("Expected " + eligible.size() + " order status changes but was " + updated);
             }
+            changed.addAll(eligible);
+        }
+        if (OrderSummaryDeltas.isSettled(newStatus)) {
+            applySettled(changed);
+        }
+
+        orderCache.evictAfterCommit(changed);
+        LocalDateTime changedAt = LocalDateTime.now();
+        for (String orderId : changed) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(orderId, userId, newStatus, changedAt));
         }
 
-        throw new CustomException(CustomError.STATUS_NOT_AVAILABLE);
+        List<OrderStatusChangeResultDto> results = new ArrayList<>(orderIds.size());
+        for (String orderId : orderIds) {
+            CustomError error = failures.get(orderId);
+            results.add(error == null
+                    ? OrderStatusChangeResultDto.success(orderId)
+                    : OrderStatusChangeResultDto.failure(orderId, error));
+        }
+        return results;
     }
 
+    /**
+     * 거래가 끝나는 상태로 바뀐 주문을 요약에 반영 (이 전환에서만 주문을 읽음)
+     * 주문은 batchSize 개씩 읽고, 증감은 모두 모은 뒤 한 번에 반영
+     * @param orderIds 방금 전환한 주문 (이 트랜잭션이 행을 잠근 상태)
+     */
+    private void applySettled(List<String> orderIds) {
+        OrderSummaryDeltas deltas = new OrderSummaryDeltas();
+        for (int from = 0; from < orderIds.size(); from += batchSize) {
+            List<String> chunk = orderIds.subList(from, Math.min(orderIds.size(), from + batchSize));
+            for (OrderSummaryView view : orderRepository.findSummaryViews(chunk)) {
+                deltas.settled(view);
+            }
+        }
+        orderSummaryService.apply(deltas);
+    }
 
-    @Transactional(readOnly = true)
-    public Order getPagedOrders(String token, LocalDateTime date, Invoice invoice) {
-        Order order = orderRepository.findByOrderDateAndInvoice(date, invoice)
-                        .orElseThrow(() -> new CustomException(CustomError.ORDER_NOT_FOUND));
-        extractAndVerifyToken(token, order.getUserId());
-        return order;
+    /**
+     * @param current 잠근 주문의 현재 (invoice, 상태), 없으면 null
+     * @return 전환할 수 없는 이유, 전환 가능하면 null
+     */
+    private CustomError checkTransition(OrderStatusView current, OrderStatusTransitions.Transition transition) {
+        if (current == null) {
+            return CustomError.ORDER_NOT_FOUND;
+        }
+        Invoice invoice = Invoice.valueOf(current.getInvoice());
+        if (invoice != transition.invoice()) {
+            return invoice == Invoice.PURCHASE ? CustomError.STATUS_NOT_FOR_PURCHASE : CustomError.STATUS_NOT_FOR_SELL;
+        }
+        if (OrderStatus.valueOf(current.getStatus()) != transition.expected()) {
+            return CustomError.STATUS_NOT_AVAILABLE;
+        }
+        return null;
     }
 
-    public Map<String, Object> buildPaginationLinks(Page<Order> orderPage, LocalDateTime date, int limit, int offset, Invoice invoice) {
-        Map<String, Object> links = new HashMap<>();
-        String baseUrl = "/api/orders?";
 
-        links.put("self", Map.of("href", buildUrl(baseUrl, date, limit, offset, invoice)));
-        links.put("first", Map.of("href", buildUrl(baseUrl, date, limit, 0, invoice)));
-        links.put("last", Map.of("href", buildUrl(baseUrl, date, limit, orderPage.getTotalPages() - 1, invoice)));
-        links.put("previous", offset > 0 ? Map.of("href", buildUrl(baseUrl, date, limit, offset - 1, invoice)) : null);
-        links.put("next", offset + 1 < orderPage.getTotalPages() ? Map.of("href", buildUrl(baseUrl, date, limit, offset + 1, invoice)) : null);
+    /**
+     * 주문 단건 조회 (OrderCache 를 거침)
+     * 캐시 적중 시 DB 연결을 잡지 않도록 트랜잭션 없이 조회, 캐시는 주문 번호로만 찾고 소유자는 여기서 확인
+     * @param authenticatedUserId
+     * @param orderId
+     * @return 주문
+     */
+    public Order getOrder(Long authenticatedUserId, String orderId) {
+        return orderCache.get(orderId, () -> orderRepository.findById(orderId))
+                .filter(order -> order.getUserId().equals(authenticatedUserId))
+                .orElseThrow(() -> new CustomException(CustomError.ORDER_NOT_FOUND));
+    }
+
+    /**
+     * 사용자의 주문 목록 한 페이지 (orderDate, id 내림차순)
+     * COUNT 없이 limit + 1 건을 읽어서 다음 페이지 존재 여부를 판단
+     * @param authenticatedUserId
+     * @param invoice null 이면 전체
+     * @param from null 이면 제한 없음
+     * @param to null 이면 제한 없음 (포함하지 않음)
+     * @param limit null 이면 기본값, 최대 MAX_PAGE_SIZE
+     * @param cursor 이전 페이지의 nextCursor, null 이면 첫 페이지
+     * @return 주문 목록과 다음 페이지 cursor
+     */
+    @Transactional(readOnly = true)
+    public OrderPageDto getPagedOrders(Long authenticatedUserId, Invoice invoice, LocalDateTime from, LocalDateTime to,
+                                       Integer limit, String cursor) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        LocalDateTime lowerBound = from != null ? from : MIN_ORDER_DATE;
+
+        OrderCursor position = cursor != null && !cursor.isBlank()
+                ? OrderCursor.decode(cursor)
+                : new OrderCursor(to != null ? to : MAX_ORDER_DATE, "");
+        Pageable pageable = PageRequest.of(0, pageSize + 1);
 
-        return links;
+        List<Order> orders = invoice == null
+                ? orderRepository.findPageByUser(authenticatedUserId, lowerBound, position.orderDate(), position.id(), pageable)
+                : orderRepository.findPageByUserAndInvoice(authenticatedUserId, invoice, lowerBound, position.orderDate(), position.id(), pageable);
+
+        if (orders.size() <= pageSize) {
+            return new OrderPageDto(orders, null);
+        }
+        List<Order> page = orders.subList(0, pageSize);
+        Order last = page.get(pageSize - 1);
+        return new OrderPageDto(new ArrayList<>(page), new OrderCursor(last.getOrderDate(), last.getId()).encode());
     }
 
-    private String buildUrl(String baseUrl, LocalDateTime date, int limit, int offset, Invoice invoice) {
-        return baseUrl + "date=" + date + "&limit=" + limit + "&offset=" + offset + "&invoice=" + invoice;
+    /**
+     * 목록 조회 링크 (self, next)
+     * next 는 같은 조건에 nextCursor 만 바꾼 링크, 마지막 페이지면 null
+     */
+    public Map<String, Object> buildPaginationLinks(OrderPageDto page, OrderPageRequestDto request) {
+        Map<String, Object> links = new HashMap<>();
+        links.put("self", Map.of("href", buildUrl(request, request.getCursor())));
+        links.put("next", page.hasNext() ? Map.of("href", buildUrl(request, page.getNextCursor())) : null);
+        return links;
     }
 
-    public Page<Order> countPage(int offset, int limit) {
-        Pageable pageable = PageRequest.of(offset, limit);
-        return orderRepository.findAll(pageable);
+    private String buildUrl(OrderPageRequestDto request, String cursor) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromPath("/api/order/list");
+        if (request.getInvoice() != null) {
+            builder.queryParam("invoice", request.getInvoice());
+        }
+        if (request.getFrom() != null) {
+            builder.queryParam("from", request.getFrom());
+        }
+        if (request.getTo() != null) {
+            builder.queryParam("to", request.getTo());
+        }
+        if (request.getLimit() != null) {
+            builder.queryParam("limit", request.getLimit());
+        }
+        if (cursor != null) {
+            builder.queryParam("cursor", cursor);
+        }
+        return builder.build().toUriString();
     }
 
     @Transactional
-    public void deleteOrder(String token, OrderDeleteRequestDto requestDto) {
-        extractAndVerifyToken(token, requestDto.getUserId());
+    public void deleteOrder(Long authenticatedUserId, OrderDeleteRequestDto requestDto) {
+        verifyRequestUser(authenticatedUserId, requestDto.getUserId());
+        orderSummaryService.lockUser(requestDto.getUserId());
         Order order = orderRepository.findByIdAndUserId(requestDto.getOrderId(), requestDto.getUserId())
                 .orElseThrow(() -> new CustomException(CustomError.FORBIDDEN_ORDER));
         orderRepository.delete(order);
+        orderCache.evictAfterCommit(order.getId());
+
+        OrderSummaryDeltas deltas = new OrderSummaryDeltas();
+        deltas.deleted(order);
+        orderSummaryService.apply(deltas);
     }
 }
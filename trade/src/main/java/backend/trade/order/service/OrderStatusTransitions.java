@@ -0,0 +1,55 @@
+package backend.trade.order.service;
+
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.OrderStatus;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 주문 상태 전환 표
+ * PURCHASE : ORDER_COMPLETED 주문 완료 -> PAYMENT_COMPLETED 입금 완료 -> SHIPPED 발송 완료
+ * SELL : ORDER_COMPLETED 주문 완료 -> PAYMENT_RECEIVED 송금 완료 -> RECEIVED 수령 완료
+ *
+ * 전환 후 상태는 invoice 마다 겹치지 않으므로, 바꿀 상태만으로 (invoice, 직전 상태) 가 정해짐
+ * -> 주문을 먼저 읽지 않고 UPDATE ... WHERE invoice = ? AND status = ? 한 번으로 전환 가능
+ */
+final class OrderStatusTransitions {
+
+    /** invoice -> (바꿀 상태 -> 직전 상태) */
+    private static final Map<Invoice, Map<OrderStatus, OrderStatus>> TABLE = new EnumMap<>(Invoice.class);
+    /** 바꿀 상태 -> (invoice, 직전 상태) */
+    private static final Map<OrderStatus, Transition> BY_TARGET = new EnumMap<>(OrderStatus.class);
+
+    static {
+        Map<OrderStatus, OrderStatus> purchase = new EnumMap<>(OrderStatus.class);
+        purchase.put(OrderStatus.PAYMENT_COMPLETED, OrderStatus.ORDER_COMPLETED);
+        purchase.put(OrderStatus.SHIPPED, OrderStatus.PAYMENT_COMPLETED);
+        TABLE.put(Invoice.PURCHASE, purchase);
+
+        Map<OrderStatus, OrderStatus> sell = new EnumMap<>(OrderStatus.class);
+        sell.put(OrderStatus.PAYMENT_RECEIVED, OrderStatus.ORDER_COMPLETED);
+        sell.put(OrderStatus.RECEIVED, OrderStatus.PAYMENT_RECEIVED);
+        TABLE.put(Invoice.SELL, sell);
+
+        TABLE.forEach((invoice, transitions) -> transitions.forEach((target, expected) -> {
+            if (BY_TARGET.put(target, new Transition(invoice, expected)) != null) {
+                throw new IllegalStateException("Order status " + target + " is reachable from more than one invoice");
+            }
+        }));
+    }
+
+    private OrderStatusTransitions() {
+    }
+
+    /**
+     * @param target 바꿀 상태
+     * @return 전환 조건, 어떤 주문도 이 상태로 바뀔 수 없으면 null
+     */
+    static Transition forTarget(OrderStatus target) {
+        return target == null ? null : BY_TARGET.get(target);
+    }
+
+    record Transition(Invoice invoice, OrderStatus expected) {
+    }
+}
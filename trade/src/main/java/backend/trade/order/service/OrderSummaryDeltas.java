@@ -0,0 +1,158 @@
+package backend.trade.order.service;
+
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.Order;
+import backend.trade.order.model.OrderStatus;
+import backend.trade.order.repository.OrderSummaryView;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 트랜잭션에서 생긴 요약 증감을 (userId, itemType, tradeDate) 별로 모음
+ * 같은 키는 합쳐서 upsert 한 번, 키 순서대로 적용해서 동시에 쓰는 트랜잭션끼리 잠금 순서가 같도록 (교착 방지)
+ */
+final class OrderSummaryDeltas {
+
+    /** 거래가 끝난 구매 주문 상태 (발송 완료) */
+    static final OrderStatus PURCHASE_SETTLED = OrderStatus.SHIPPED;
+    /** 거래가 끝난 판매 주문 상태 (수령 완료) */
+    static final OrderStatus SELL_SETTLED = OrderStatus.RECEIVED;
+
+    private final Map<DayKey, Delta> daily = new TreeMap<>();
+
+    static boolean isSettled(OrderStatus status) {
+        return status == PURCHASE_SETTLED || status == SELL_SETTLED;
+    }
+
+    /**
+     * 주문 등록
+     */
+    void created(Order order) {
+        Delta delta = delta(order.getUserId(), order.getItemType(), order.getOrderDate());
+        delta.addOrdered(order.getInvoice(), quantity(order.getQuantity()));
+        delta.orderCount++;
+    }
+
+    /**
+     * 주문 삭제 (거래가 끝난 주문이면 settled 도 뺌)
+     */
+    void deleted(Order order) {
+        Delta delta = delta(order.getUserId(), order.getItemType(), order.getOrderDate());
+        BigDecimal quantity = quantity(order.getQuantity()).negate();
+        delta.addOrdered(order.getInvoice(), quantity);
+        if (isSettled(order.getStatus())) {
+            delta.addSettled(order.getInvoice(), quantity);
+        }
+        delta.orderCount--;
+    }
+
+    /**
+     * 거래가 끝나는 상태로 전환
+     */
+    void settled(OrderSummaryView order) {
+        delta(order.getUserId(), order.getItemType(), order.getOrderDate())
+                .addSettled(order.getInvoice(), quantity(order.getQuantity()));
+    }
+
+    /**
+     * 재계산 : 현재 주문 한 건을 등록 + (거래가 끝났으면) 전환한 것으로 더함
+     */
+    void counted(OrderSummaryView order) {
+        Delta delta = delta(order.getUserId(), order.getItemType(), order.getOrderDate());
+        BigDecimal quantity = quantity(order.getQuantity());
+        delta.addOrdered(order.getInvoice(), quantity);
+        if (isSettled(order.getStatus())) {
+            delta.addSettled(order.getInvoice(), quantity);
+        }
+        delta.orderCount++;
+    }
+
+    Map<DayKey, Delta> daily() {
+        return daily;
+    }
+
+    /**
+     * 일별 증감을 (userId, itemType) 별로 합친 포지션 증감
+     */
+    Map<PositionKey, Delta> positions() {
+        Map<PositionKey, Delta> positions = new TreeMap<>();
+        daily.forEach((key, delta) ->
+                positions.computeIfAbsent(new PositionKey(key.userId(), key.itemType()), k -> new Delta()).add(delta));
+        return positions;
+    }
+
+    private Delta delta(Long userId, ItemType itemType, LocalDateTime orderDate) {
+        return daily.computeIfAbsent(new DayKey(userId, itemType, orderDate.toLocalDate()), key -> new Delta());
+    }
+
+    // 주문 수량과 같은 gram 소수점 두자리 (double 을 그대로 더하면 오차가 쌓임)
+    private static BigDecimal quantity(Double quantity) {
+        return BigDecimal.valueOf(quantity).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    record DayKey(Long userId, ItemType itemType, LocalDate tradeDate) implements Comparable<DayKey> {
+        private static final Comparator<DayKey> ORDER = Comparator.comparing(DayKey::userId)
+                .thenComparing(DayKey::itemType)
+                .thenComparing(DayKey::tradeDate);
+
+        @Override
+        public int compareTo(DayKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    record PositionKey(Long userId, ItemType itemType) implements Comparable<PositionKey> {
+        private static final Comparator<PositionKey> ORDER = Comparator.comparing(PositionKey::userId)
+                .thenComparing(PositionKey::itemType);
+
+        @Override
+        public int compareTo(PositionKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    static final class Delta {
+        BigDecimal purchase = BigDecimal.ZERO;
+        BigDecimal sell = BigDecimal.ZERO;
+        BigDecimal settledPurchase = BigDecimal.ZERO;
+        BigDecimal settledSell = BigDecimal.ZERO;
+        long orderCount;
+
+        private void addOrdered(Invoice invoice, BigDecimal quantity) {
+            if (invoice == Invoice.PURCHASE) {
+                purchase = purchase.add(quantity);
+            } else {
+                sell = sell.add(quantity);
+            }
+        }
+
+        private void addSettled(Invoice invoice, BigDecimal quantity) {
+            if (invoice == Invoice.PURCHASE) {
+                settledPurchase = settledPurchase.add(quantity);
+            } else {
+                settledSell = settledSell.add(quantity);
+            }
+        }
+
+        private void add(Delta other) {
+            purchase = purchase.add(other.purchase);
+            sell = sell.add(other.sell);
+            settledPurchase = settledPurchase.add(other.settledPurchase);
+            settledSell = settledSell.add(other.settledSell);
+            orderCount += other.orderCount;
+        }
+
+        boolean isZero() {
+            return orderCount == 0
+                    && purchase.signum() == 0 && sell.signum() == 0
+                    && settledPurchase.signum() == 0 && settledSell.signum() == 0;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package backend.trade.order.service;
+
+import backend.trade.order.repository.OrderPositionRepository;
+import backend.trade.order.repository.OrderRepository;
+import backend.trade.order.repository.OrderSummaryRepository;
+import backend.trade.order.repository.OrderSummaryView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 요약(order_daily_summary, order_position)을 order_table 에서 다시 계산 (초기 적재, 어긋난 요약 복구)
+ * 사용자 id 를 chunk-users 개씩 나눠서 parallelism 개 범위를 동시에 처리, 범위마다 한 트랜잭션 (READ COMMITTED)
+ * - 범위의 사용자 잠금 행(order_user_lock)을 id 순서대로 먼저 잠금, 요약을 바꾸는 주문 쓰기도 order_table 을 바꾸기 전에
+ *   같은 행을 잠그므로 범위 안 사용자의 쓰기는 재계산 전에 commit 됐거나 재계산이 commit 될 때까지 기다림
+ *   (READ COMMITTED 에는 gap 잠금이 없어서 요약 행 삭제만으로는 처음 생기는 요약 키의 쓰기를 막지 못하고 두 번 더해짐)
+ * - 요약 행 삭제(일별 -> 포지션) 후 order_table 을 잠그지 않고 읽어서 집계, 증감 upsert 와 같은 키 순서로 다시 씀
+ * - 잠금 순서는 주문 쓰기와 같음 (사용자 잠금 -> order_table -> 일별 요약 -> 포지션)
+ * - 교착 등 잠금 실패는 범위 단위로 max-attempts 번까지 다시 시도, 그래도 실패한 범위는 로그로 남기고 계속 진행
+ * trade.order.summary.rebuild.cron 으로 예약 실행하거나 rebuild() 를 직접 호출 (동시에 하나만 실행)
+ */
+@Slf4j
+@Component
+public class OrderSummaryRebuildJob {
+
+    private final OrderRepository orderRepository;
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderPositionRepository orderPositionRepository;
+    private final OrderSummaryService orderSummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final long chunkUsers;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public OrderSummaryRebuildJob(OrderRepository orderRepository,
+                                  OrderSummaryRepository orderSummaryRepository,
+                                  OrderPositionRepository orderPositionRepository,
+                                  OrderSummaryService orderSummaryService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${trade.order.summary.rebuild.chunk-users:100}") long chunkUsers,
+                                  @Value("${trade.order.summary.rebuild.parallelism:4}") int parallelism,
+                                  @Value("${trade.order.summary.rebuild.max-attempts:3}") int maxAttempts) {
+        this.orderRepository = orderRepository;
+        this.orderSummaryRepository = orderSummaryRepository;
+        this.orderPositionRepository = orderPositionRepository;
+        this.orderSummaryService = orderSummaryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.chunkUsers = chunkUsers;
+        this.parallelism = parallelism;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Scheduled(cron = "${trade.order.summary.rebuild.cron:-}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * @return 처리 결과, 이미 실행 중이면 null
+     */
+    public Result rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Order summary rebuild is already running");
+            return null;
+        }
+        try {
+            return rebuildAll();
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Result rebuildAll() {
+        long startedAt = System.currentTimeMillis();
+        // 주문이 모두 삭제된 사용자의 남은 요약도 지우도록 두 테이블의 범위를 합침
+        Long minUserId = min(orderRepository.findMinUserId(), orderPositionRepository.findMinUserId());
+        Long maxUserId = max(orderRepository.findMaxUserId(), orderPositionRepository.findMaxUserId());
+        if (minUserId == null) {
+            return new Result(0, 0, System.currentTimeMillis() - startedAt);
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "order-summary-rebuild-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<Boolean>> chunks = new ArrayList<>();
+        try {
+            for (long from = minUserId; from <= maxUserId; from += chunkUsers) {
+                long fromUserId = from;
+                long toUserId = Math.min(maxUserId, from + chunkUsers - 1);
+                chunks.add(executor.submit(() -> rebuildChunk(fromUserId, toUserId)));
+                if (toUserId == maxUserId) {
+                    break;
+                }
+            }
+
+            int failed = 0;
+            for (Future<Boolean> chunk : chunks) {
+                if (!chunk.get()) {
+                    failed++;
+                }
+            }
+            Result result = new Result(chunks.size(), failed, System.currentTimeMillis() - startedAt);
+            log.info("Order summary rebuilt : users {} ~ {}, {}", minUserId, maxUserId, result);
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Order summary rebuild interrupted", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("Order summary rebuild failed", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return 성공 여부
+     */
+    private boolean rebuildChunk(long fromUserId, long toUserId) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    orderSummaryService.lockUsers(fromUserId, toUserId);
+                    // 증감 upsert 와 같은 순서 (일별 요약 -> 포지션) 로 잠금
+                    orderSummaryRepository.deleteDailyByUserRange(fromUserId, toUserId);
+                    orderPositionRepository.deletePositionsByUserRange(fromUserId, toUserId);
+                    orderSummaryService.apply(aggregate(fromUserId, toUserId));
+                });
+                return true;
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Order summary rebuild failed for users {} ~ {} after {} attempts", fromUserId, toUserId, attempt, e);
+                    return false;
+                }
+                log.warn("Order summary rebuild retry for users {} ~ {} ({})", fromUserId, toUserId, e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("Order summary rebuild failed for users {} ~ {}", fromUserId, toUserId, e);
+                return false;
+            }
+        }
+    }
+
+    // 잠그지 않는 조회 (사용자 잠금 이후라서 범위 안의 주문은 모두 commit 된 상태)
+    private OrderSummaryDeltas aggregate(long fromUserId, long toUserId) {
+        OrderSummaryDeltas deltas = new OrderSummaryDeltas();
+        try (Stream<OrderSummaryView> orders = orderRepository.streamSummaryViewsByUserRange(fromUserId, toUserId)) {
+            orders.forEach(deltas::counted);
+        }
+        return deltas;
+    }
+
+    private static Long min(Long a, Long b) {
+        return a == null ? b : b == null ? a : Math.min(a, b);
+    }
+
+    private static Long max(Long a, Long b) {
+        return a == null ? b : b == null ? a : Math.max(a, b);
+    }
+
+    /**
+     * @param chunks 처리한 사용자 id 범위 수
+     * @param failedChunks 다시 시도해도 실패한 범위 수
+     */
+    public record Result(int chunks, int failedChunks, long elapsedMillis) {
+    }
+}
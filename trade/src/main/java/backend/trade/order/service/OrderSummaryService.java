@@ -0,0 +1,139 @@
+package backend.trade.order.service;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import backend.trade.order.dto.OrderDailyVolumeDto;
+import backend.trade.order.dto.OrderPositionDto;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.OrderPosition;
+import backend.trade.order.repository.OrderPositionRepository;
+import backend.trade.order.repository.OrderSummaryRepository;
+import backend.trade.order.repository.OrderUserLockRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 사용자별 포지션, 일별 주문량 요약
+ * 주문 등록/상태 변경/삭제 트랜잭션 안에서 증감만 upsert 하므로 order_table 을 집계하지 않고 조회
+ * (요약이 어긋났을 때는 OrderSummaryRebuildJob 으로 다시 계산)
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderSummaryService {
+
+    private static final int DEFAULT_VOLUME_DAYS = 30;
+
+    private final OrderSummaryRepository orderSummaryRepository;
+    private final OrderPositionRepository orderPositionRepository;
+    private final OrderUserLockRepository orderUserLockRepository;
+
+    @Value("${trade.order.summary.max-volume-days:366}")
+    private int maxVolumeDays;
+
+    /**
+     * 요약을 바꾸는 주문 쓰기의 사용자 잠금 (order_table 을 바꾸기 전에 호출, commit/rollback 까지 유지)
+     * OrderSummaryRebuildJob 이 같은 사용자를 다시 계산하는 동안에는 끝날 때까지 기다림
+     */
+    void lockUser(Long userId) {
+        requireTransaction();
+        orderUserLockRepository.lock(userId);
+    }
+
+    /**
+     * 재계산할 사용자 범위를 id 순서대로 잠금 (주문 쓰기는 한 사용자만 잠그므로 교착 없음)
+     */
+    void lockUsers(long fromUserId, long toUserId) {
+        requireTransaction();
+        for (long userId = fromUserId; userId <= toUserId; userId++) {
+            orderUserLockRepository.lock(userId);
+        }
+    }
+
+    /**
+     * 모은 증감을 일별 요약, 포지션 순서로 적용 (키 순서대로)
+     * 주문 변경과 같이 commit/rollback 되도록 호출하는 쪽 트랜잭션 안에서만 실행
+     */
+    void apply(OrderSummaryDeltas deltas) {
+        requireTransaction();
+        deltas.daily().forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                orderSummaryRepository.addDaily(key.userId(), key.itemType().name(), key.tradeDate(),
+                        delta.purchase, delta.sell, delta.settledPurchase, delta.settledSell, delta.orderCount);
+            }
+        });
+        deltas.positions().forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                orderPositionRepository.addPosition(key.userId(), key.itemType().name(),
+                        delta.purchase, delta.sell, delta.settledPurchase, delta.settledSell, delta.orderCount);
+            }
+        });
+    }
+
+    private static void requireTransaction() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Order summary must be updated in the order transaction");
+        }
+    }
+
+    /**
+     * 품목별 누적 포지션 (사용자당 품목 수만큼의 기본 키 조회), 주문이 없는 품목은 0
+     * @param authenticatedUserId
+     * @return ItemType 순서
+     */
+    @Transactional(readOnly = true)
+    public List<OrderPositionDto> getPositions(Long authenticatedUserId) {
+        Map<ItemType, OrderPositionDto> positions = new EnumMap<>(ItemType.class);
+        for (ItemType itemType : ItemType.values()) {
+            positions.put(itemType, OrderPositionDto.empty(itemType));
+        }
+        for (OrderPosition position : orderPositionRepository.findByUserIdOrderByItemType(authenticatedUserId)) {
+            positions.put(position.getItemType(), OrderPositionDto.of(position));
+        }
+        return new ArrayList<>(positions.values());
+    }
+
+    /**
+     * 기간 내 일별, 품목별 주문량 (주문이 없는 날은 없음)
+     * @param authenticatedUserId
+     * @param from null 이면 to 기준 최근 30일
+     * @param to null 이면 오늘 (포함)
+     * @return 날짜, 품목 순서
+     */
+    @Transactional(readOnly = true)
+    public List<OrderDailyVolumeDto> getDailyVolumes(Long authenticatedUserId, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_VOLUME_DAYS - 1);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= maxVolumeDays) {
+            throw new CustomException(CustomError.INVALID_FIELD_TYPE);
+        }
+        return orderSummaryRepository.findDaily(authenticatedUserId, start, end).stream()
+                .map(OrderDailyVolumeDto::of)
+                .toList();
+    }
+
+    /**
+     * @param dayString yyyy-MM-dd
+     * @return 비어 있으면 null
+     */
+    public LocalDate parseDayString(String dayString) {
+        if (dayString == null || dayString.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(dayString);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(CustomError.INVALID_FIELD_TYPE);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package backend.trade.order.watch;
+
+import backend.trade.order.model.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 상태 변경 이벤트 (OrderService 에서 발행, commit 이후 구독자에게 전달)
+ */
+public record OrderStatusChangedEvent(String orderId, Long userId, OrderStatus status, LocalDateTime changedAt) {
+
+    /**
+     * 같은 주문의 두 이벤트 중 나중에 변경된 쪽
+     */
+    static OrderStatusChangedEvent latest(OrderStatusChangedEvent current, OrderStatusChangedEvent next) {
+        return current.changedAt().isAfter(next.changedAt()) ? current : next;
+    }
+}
@@ -0,0 +1,131 @@
+package backend.trade.order.watch;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 주문 상태 구독자 관리
+ * - OrderStatusChangedEvent 를 commit 이후에만 받아서 해당 사용자의 구독자에게 전달
+ * - 실제 전송은 소수의 dispatcher 스레드가 구독자별로 번갈아 수행 (구독자 수와 스레드 수 무관)
+ * - SSE 는 write 가 느린 클라이언트에서 멈출 수 있어서 별도 sse-send 스레드에서 전송 (dispatcher 는 넘기기만 함)
+ */
+@Component
+@Slf4j
+public class OrderWatchHub {
+
+    private final Map<Long, Set<OrderWatcher>> watchers = new ConcurrentHashMap<>();
+    private final AtomicInteger watcherCount = new AtomicInteger();
+    private final ExecutorService dispatcher;
+    private final ExecutorService sseSender;
+    private final int maxWatchersPerUser;
+    private final long sseTimeoutMillis;
+
+    public OrderWatchHub(@Value("${trade.order.watch.dispatch-threads:4}") int dispatchThreads,
+                         @Value("${trade.order.watch.max-watchers-per-user:16}") int maxWatchersPerUser,
+                         @Value("${trade.order.watch.sse-timeout-ms:1800000}") long sseTimeoutMillis,
+                         @Value("${trade.order.watch.sse-send-threads:8}") int sseSendThreads) {
+        this.maxWatchersPerUser = maxWatchersPerUser;
+        this.sseTimeoutMillis = sseTimeoutMillis;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-watch-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger sseThreadNumber = new AtomicInteger();
+        this.sseSender = Executors.newFixedThreadPool(sseSendThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-watch-sse-" + sseThreadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 구독자 등록
+     * @param watcher
+     * @return 등록된 watcher
+     */
+    public <W extends OrderWatcher> W register(W watcher) {
+        watchers.compute(watcher.getUserId(), (userId, userWatchers) -> {
+            Set<OrderWatcher> registered = userWatchers == null ? ConcurrentHashMap.newKeySet() : userWatchers;
+            if (registered.size() >= maxWatchersPerUser) {
+                throw new CustomException(CustomError.TOO_MANY_WATCHERS);
+            }
+            registered.add(watcher);
+            return registered;
+        });
+        watcherCount.incrementAndGet();
+        return watcher;
+    }
+
+    /**
+     * SSE 구독 시작
+     * @param userId
+     * @param orderIds 비어 있으면 사용자의 모든 주문
+     * @return 상태 변경을 push 할 emitter
+     */
+    public SseEmitter subscribe(Long userId, Collection<String> orderIds) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        register(new SseOrderWatcher(this, userId, orderIds, emitter));
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(OrderStatusChangedEvent event) {
+        Set<OrderWatcher> userWatchers = watchers.get(event.userId());
+        if (userWatchers == null) {
+            return;
+        }
+        for (OrderWatcher watcher : userWatchers) {
+            watcher.offer(event);
+        }
+    }
+
+    public int getWatcherCount() {
+        return watcherCount.get();
+    }
+
+    void unregister(OrderWatcher watcher) {
+        watchers.computeIfPresent(watcher.getUserId(), (userId, userWatchers) -> {
+            if (userWatchers.remove(watcher)) {
+                watcherCount.decrementAndGet();
+            }
+            return userWatchers.isEmpty() ? null : userWatchers;
+        });
+    }
+
+    void dispatch(Runnable drain) {
+        dispatcher.execute(drain);
+    }
+
+    void dispatchSse(Runnable write) {
+        sseSender.execute(write);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<OrderWatcher> all = new ArrayList<>();
+        watchers.values().forEach(all::addAll);
+        all.forEach(OrderWatcher::close);
+        dispatcher.shutdownNow();
+        sseSender.shutdownNow();
+    }
+}
@@ -0,0 +1,102 @@
+package backend.trade.order.watch;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 주문 상태 구독자 하나 (gRPC stream, SSE 연결 등)
+ * - 구독자마다 스레드를 두지 않고, 전달할 이벤트가 생기면 hub 의 공용 dispatcher 에서 drain
+ * - 아직 보내지 못한 이벤트는 주문별 최신 상태 하나만 유지 (느린 구독자 conflation)
+ * - isReady 가 false 면 drain 을 멈추고, 전송 가능해지면 구현체가 schedule 을 다시 호출
+ */
+@Slf4j
+public abstract class OrderWatcher {
+
+    private final OrderWatchHub hub;
+    @Getter
+    private final Long userId;
+    private final Set<String> orderIds;
+
+    private final Map<String, OrderStatusChangedEvent> pending = new ConcurrentHashMap<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile boolean closed;
+
+    protected OrderWatcher(OrderWatchHub hub, Long userId, Collection<String> orderIds) {
+        this.hub = hub;
+        this.userId = userId;
+        this.orderIds = orderIds == null ? Set.of() : Set.copyOf(orderIds);
+    }
+
+    /**
+     * 전송 가능 여부 (flow control)
+     */
+    protected abstract boolean isReady();
+
+    protected abstract void send(OrderStatusChangedEvent event) throws Exception;
+
+    /**
+     * 구독 종료 시 연결 정리
+     */
+    protected void onClosed() {
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        pending.clear();
+        hub.unregister(this);
+        onClosed();
+    }
+
+    void offer(OrderStatusChangedEvent event) {
+        if (closed || (!orderIds.isEmpty() && !orderIds.contains(event.orderId()))) {
+            return;
+        }
+        pending.merge(event.orderId(), event, OrderStatusChangedEvent::latest);
+        schedule();
+    }
+
+    /**
+     * 보낼 이벤트가 있고 drain 중이 아니면 dispatcher 에 drain 예약
+     */
+    protected void schedule() {
+        if (!closed && !pending.isEmpty() && scheduled.compareAndSet(false, true)) {
+            hub.dispatch(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            for (String orderId : pending.keySet()) {
+                if (closed || !isReady()) {
+                    return;
+                }
+                OrderStatusChangedEvent event = pending.remove(orderId);
+                if (event != null) {
+                    send(event);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Order watcher of user {} closed :: {}", userId, e.getMessage());
+            close();
+        } finally {
+            scheduled.set(false);
+            // drain 도중 들어온 이벤트 처리
+            if (isReady()) {
+                schedule();
+            }
+        }
+    }
+}
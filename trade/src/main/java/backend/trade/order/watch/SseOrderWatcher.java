@@ -0,0 +1,76 @@
+package backend.trade.order.watch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SSE 연결 구독자 (event name : order-status, id : 주문 번호)
+ * SseEmitter.send 는 클라이언트가 느리면 socket write 에서 멈추므로 dispatcher 에서는 전송을 넘기기만 하고,
+ * 실제 전송은 hub 의 SSE 전송 스레드에서 연결별로 한 번에 하나씩 수행
+ * 전송 중에는 isReady 가 false 라서 그동안 들어온 상태는 OrderWatcher 에서 주문별 최신 상태로 합쳐지고,
+ * 전송이 끝나면 다시 schedule (gRPC 의 onReady 와 같은 방식, 느린 연결도 닫지 않음)
+ */
+@Slf4j
+class SseOrderWatcher extends OrderWatcher {
+
+    private static final String EVENT_NAME = "order-status";
+
+    private final OrderWatchHub hub;
+    private final SseEmitter emitter;
+    private final AtomicBoolean writing = new AtomicBoolean();
+
+    SseOrderWatcher(OrderWatchHub hub, Long userId, Collection<String> orderIds, SseEmitter emitter) {
+        super(hub, userId, orderIds);
+        this.hub = hub;
+        this.emitter = emitter;
+        emitter.onCompletion(this::close);
+        emitter.onTimeout(this::close);
+        emitter.onError(e -> close());
+    }
+
+    @Override
+    protected boolean isReady() {
+        return !writing.get();
+    }
+
+    /**
+     * drain 안에서만 호출되고 isReady 를 확인한 뒤라서 전송 중인 이벤트는 항상 하나
+     */
+    @Override
+    protected void send(OrderStatusChangedEvent event) {
+        writing.set(true);
+        try {
+            hub.dispatchSse(() -> write(event));
+        } catch (RejectedExecutionException e) {
+            writing.set(false);
+            close();
+        }
+    }
+
+    @Override
+    protected void onClosed() {
+        emitter.complete();
+    }
+
+    private void write(OrderStatusChangedEvent event) {
+        try {
+            if (!isClosed()) {
+                emitter.send(SseEmitter.event()
+                        .id(event.orderId())
+                        .name(EVENT_NAME)
+                        .data(event));
+            }
+        } catch (Exception e) {
+            log.warn("SSE order watcher of user {} closed :: {}", getUserId(), e.getMessage());
+            close();
+        } finally {
+            writing.set(false);
+            // 전송 도중 쌓인 상태 전송
+            schedule();
+        }
+    }
+}
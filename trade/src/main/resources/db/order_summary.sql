@@ -0,0 +1,31 @@
+-- 사용자별 일별 주문 요약 (OrderSummaryService 가 주문 등록/상태 변경/삭제 트랜잭션 안에서 증감 upsert)
+-- settled_* : 거래가 끝난 주문 (구매 SHIPPED, 판매 RECEIVED)
+CREATE TABLE order_daily_summary (
+    user_id                   BIGINT         NOT NULL,
+    item_type                 VARCHAR(20)    NOT NULL,
+    trade_date                DATE           NOT NULL,
+    purchase_quantity         DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    sell_quantity             DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    settled_purchase_quantity DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    settled_sell_quantity     DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    order_count               BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, item_type, trade_date)
+);
+
+-- 사용자별 누적 포지션 (order_daily_summary 를 기간 전체로 합친 값, 조회 시 합산하지 않도록 따로 유지)
+CREATE TABLE order_position (
+    user_id                   BIGINT         NOT NULL,
+    item_type                 VARCHAR(20)    NOT NULL,
+    purchase_quantity         DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    sell_quantity             DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    settled_purchase_quantity DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    settled_sell_quantity     DECIMAL(19, 2) NOT NULL DEFAULT 0,
+    order_count               BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, item_type)
+);
+
+-- 사용자별 요약 잠금 행 (요약을 바꾸는 주문 쓰기와 OrderSummaryRebuildJob 이 트랜잭션 처음에 upsert 로 잠금)
+CREATE TABLE order_user_lock (
+    user_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id)
+);
@@ -0,0 +1,5 @@
+-- 주문 목록 keyset 페이지네이션 (OrderRepository.findPageByUser*)
+-- WHERE user_id = ? [AND invoice = ?] AND order_date >= ? AND (order_date, id) < (?, ?)
+-- ORDER BY order_date DESC, id DESC LIMIT ?
+CREATE INDEX idx_order_user_date_id ON order_table (user_id, order_date, id);
+CREATE INDEX idx_order_user_invoice_date_id ON order_table (user_id, invoice, order_date, id);
@@ -0,0 +1,2 @@
+-- 주문 낙관적 잠금 (Order.version, OrderRepository.transitionStatus 에서 증가)
+ALTER TABLE order_table ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
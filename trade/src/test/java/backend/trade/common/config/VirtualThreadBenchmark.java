@@ -0,0 +1,113 @@
+package backend.trade.common.config;
+
+import auth.Auth;
+import auth.AuthServiceGrpc;
+import backend.trade.common.grpc.InProcessAuthService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 인증 서버 blocking stub 호출 10,000 건을 동시에 처리할 때 platform thread pool vs virtual thread 비교
+ * - platform : Tomcat 기본 최대 스레드 수(200) 고정 pool
+ * - virtual : 요청마다 virtual thread
+ * 인증 서버는 in-process 대역이 AUTH_LATENCY_MS 뒤에 응답 (네트워크 왕복 대신)
+ * 결과는 출력만 하고 비교하지 않음 (실행 환경에 따라 달라지므로), 서버 전체 비교는 LoadTestRunner 의 loadtest.threads=compare
+ * ./gradlew -PjavaToolchain=21 benchmark 로 실행, JDK 21 미만이면 건너뜀
+ */
+@Tag("benchmark")
+class VirtualThreadBenchmark {
+
+    private static final int REQUESTS = 10_000;
+    private static final int PLATFORM_THREADS = 200;
+    private static final long AUTH_LATENCY_MS = 20;
+
+    private final ScheduledExecutorService responder = Executors.newScheduledThreadPool(4);
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 21, "virtual threads need JDK 21");
+        String serverName = "virtual-thread-benchmark";
+        server = new DelayedAuthService().start(serverName);
+        channel = InProcessChannelBuilder.forName(serverName).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (channel != null) {
+            channel.shutdownNow();
+            server.shutdownNow();
+        }
+        responder.shutdownNow();
+    }
+
+    @Test
+    void comparePlatformAndVirtualThreads() {
+        AuthServiceGrpc.AuthServiceBlockingStub stub = AuthServiceGrpc.newBlockingStub(channel);
+
+        ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        VirtualThreadTaskExecutor virtual = new VirtualThreadTaskExecutor("benchmark-");
+        try {
+            // warm up
+            run(platform, stub, 1_000);
+            run(virtual, stub, 1_000);
+
+            long platformNanos = run(platform, stub, REQUESTS);
+            long virtualNanos = run(virtual, stub, REQUESTS);
+
+            System.out.printf("platform(%d) : %,d requests in %,d ms (%,.0f req/s)%n",
+                    PLATFORM_THREADS, REQUESTS, platformNanos / 1_000_000, REQUESTS / (platformNanos / 1e9));
+            System.out.printf("virtual      : %,d requests in %,d ms (%,.0f req/s, x%.1f)%n",
+                    REQUESTS, virtualNanos / 1_000_000, REQUESTS / (virtualNanos / 1e9), (double) platformNanos / virtualNanos);
+        } finally {
+            platform.shutdownNow();
+        }
+    }
+
+    private long run(Executor executor, AuthServiceGrpc.AuthServiceBlockingStub stub, int requests) {
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            Auth.TokenRequest request = Auth.TokenRequest.newBuilder()
+                    .setToken(InProcessAuthService.validToken(i))
+                    .build();
+            futures.add(CompletableFuture.runAsync(() -> {
+                Auth.TokenResponse response = stub.withDeadlineAfter(30, TimeUnit.SECONDS).verifyToken(request);
+                if (!response.getIsValid()) {
+                    throw new IllegalStateException("Unexpected invalid token");
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return System.nanoTime() - startedAt;
+    }
+
+    /**
+     * 서버 스레드를 막지 않고 AUTH_LATENCY_MS 뒤에 응답
+     */
+    private class DelayedAuthService extends InProcessAuthService {
+        @Override
+        public void verifyToken(Auth.TokenRequest request, StreamObserver<Auth.TokenResponse> responseObserver) {
+            responder.schedule(() -> super.verifyToken(request, responseObserver), AUTH_LATENCY_MS, TimeUnit.MILLISECONDS);
+        }
+    }
+}
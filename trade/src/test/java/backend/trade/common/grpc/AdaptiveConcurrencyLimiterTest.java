@@ -0,0 +1,68 @@
+package backend.trade.common.grpc;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(500);
+
+    @Test
+    void rejectsBeyondLimitWithoutWaiting() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 200, 0.5);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        limiter.onIgnore();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void fastSuccessesIncreaseAdditivelyUpToMax() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 4, 200, 0.5);
+
+        // 2 -> 2.5 -> 2.9 -> 3.24 (+1/limit)
+        succeed(limiter, FAST, 2);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        succeed(limiter, FAST, 1);
+        assertThat(limiter.getLimit()).isEqualTo(3);
+
+        succeed(limiter, FAST, 100);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void failuresAndSlowCallsDecreaseMultiplicativelyDownToMin() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(16, 2, 32, 200, 0.5);
+
+        limiter.tryAcquire();
+        limiter.onFailure();
+        assertThat(limiter.getLimit()).isEqualTo(8);
+
+        succeed(limiter, SLOW, 1);
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire();
+            limiter.onFailure();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private static void succeed(AdaptiveConcurrencyLimiter limiter, long latencyNanos, int times) {
+        for (int i = 0; i < times; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.onSuccess(latencyNanos);
+        }
+    }
+}
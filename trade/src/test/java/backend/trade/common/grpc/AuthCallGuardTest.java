@@ -0,0 +1,46 @@
+package backend.trade.common.grpc;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuthCallGuardTest {
+
+    @Test
+    void limitRejectionInHalfOpenDoesNotLeakTrialPermits() {
+        // window 2, 실패율 50%, open 0ms (바로 HALF_OPEN), 시험 호출 2건, 동시 호출 limit 1 고정
+        AuthCallGuard guard = new AuthCallGuard(new SimpleMeterRegistry(), true,
+                2, 2, 0.5, 0, 2, 1, 1, 1, 200, 0.9);
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> guard.call(() -> {
+                throw Status.UNAVAILABLE.asRuntimeException();
+            })).isInstanceOf(CustomException.class);
+        }
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        // 시험 호출 1 : 진행 중 (limit 1 을 차지)
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> first = guard.callAsync(() -> pending);
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        // 시험 호출 2 : circuit 은 허가했지만 limit 초과로 거절 -> 허가 반납
+        assertThatThrownBy(() -> guard.call(() -> "unused"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getCustomError()).isEqualTo(CustomError.AUTH_UNAVAILABLE));
+
+        pending.complete("ok");
+        assertThat(first.join()).isEqualTo("ok");
+
+        // 반납된 허가로 두 번째 시험 호출이 성공해서 CLOSED
+        assertThat(guard.call(() -> "ok")).isEqualTo("ok");
+        assertThat(guard.getCircuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,128 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.health.v1.HealthCheckRequest;
+import io.grpc.health.v1.HealthCheckResponse;
+import io.grpc.health.v1.HealthGrpc;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.protobuf.services.HealthStatusManager;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import trade.Trade;
+import trade.TradeServiceGrpc;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GrpcAuthServerInterceptorTest {
+
+    private static final String SERVER_NAME = "grpc-auth-interceptor-test";
+
+    private final AuthClientService authClientService = mock(AuthClientService.class);
+    private final AtomicReference<Long> calledUserId = new AtomicReference<>();
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        GrpcAuthServerInterceptor interceptor = new GrpcAuthServerInterceptor(authClientService);
+        server = InProcessServerBuilder.forName(SERVER_NAME).directExecutor()
+                .addService(ServerInterceptors.intercept(new HealthStatusManager().getHealthService(), interceptor))
+                .addService(ServerInterceptors.intercept(new TradeServiceGrpc.TradeServiceImplBase() {
+                    @Override
+                    public void getOrder(Trade.GetOrderRequest request, StreamObserver<Trade.OrderResponse> responseObserver) {
+                        calledUserId.set(GrpcAuthContext.currentUserId());
+                        responseObserver.onNext(Trade.OrderResponse.getDefaultInstance());
+                        responseObserver.onCompleted();
+                    }
+                }, interceptor))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void healthCheckDoesNotNeedToken() {
+        HealthCheckResponse response = HealthGrpc.newBlockingStub(channel)
+                .check(HealthCheckRequest.getDefaultInstance());
+
+        assertThat(response.getStatus()).isEqualTo(HealthCheckResponse.ServingStatus.SERVING);
+        verify(authClientService, never()).verifyAsync(anyString());
+    }
+
+    @Test
+    void tradeCallWithoutTokenIsRejected() {
+        TradeServiceGrpc.TradeServiceBlockingStub stub = TradeServiceGrpc.newBlockingStub(channel);
+
+        assertThatThrownBy(() -> stub.getOrder(Trade.GetOrderRequest.getDefaultInstance()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNAUTHENTICATED));
+    }
+
+    @Test
+    void callStartsAfterAsyncVerificationCompletes() {
+        CompletableFuture<Auth.TokenResponse> verification = new CompletableFuture<>();
+        when(authClientService.verifyAsync("token")).thenReturn(verification);
+        AtomicBoolean startedBeforeVerification = new AtomicBoolean();
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> {
+            startedBeforeVerification.set(calledUserId.get() != null);
+            verification.complete(Auth.TokenResponse.newBuilder().setIsValid(true).setUserId(7L).build());
+        });
+
+        withToken("token").getOrder(Trade.GetOrderRequest.getDefaultInstance());
+
+        // 검증이 끝난 뒤에 검증된 userId 로 시작
+        assertThat(startedBeforeVerification).isFalse();
+        assertThat(calledUserId.get()).isEqualTo(7L);
+        verify(authClientService, never()).verify(anyString());
+    }
+
+    @Test
+    void failedAsyncVerificationRejectsCall() {
+        when(authClientService.verifyAsync("token"))
+                .thenReturn(CompletableFuture.supplyAsync(() -> {
+                    throw new CustomException(CustomError.AUTH_UNAVAILABLE);
+                }, CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS)));
+
+        assertThatThrownBy(() -> withToken("token").getOrder(Trade.GetOrderRequest.getDefaultInstance()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class,
+                        e -> assertThat(e.getStatus().getCode()).isEqualTo(GrpcErrors.toStatus(CustomError.AUTH_UNAVAILABLE).getCode()));
+        assertThat(calledUserId.get()).isNull();
+    }
+
+    private TradeServiceGrpc.TradeServiceBlockingStub withToken(String token) {
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), "Bearer " + token);
+        return TradeServiceGrpc.newBlockingStub(channel)
+                .withDeadlineAfter(5, TimeUnit.SECONDS)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+}
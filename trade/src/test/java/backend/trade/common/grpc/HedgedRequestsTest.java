@@ -0,0 +1,121 @@
+package backend.trade.common.grpc;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HedgedRequestsTest {
+
+    private static final long P95_MILLIS = 100;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void hedgeIsSentAfterP95DelayAndLoserIsCancelled() throws Exception {
+        HedgedRequests hedgedRequests = new HedgedRequests(scheduler, trackerWithLatency(P95_MILLIS), true, 10);
+        Attempts attempts = new Attempts(2);
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<String> result = hedgedRequests.call(attempts);
+        assertThat(attempts.sent).hasSize(1);
+
+        assertThat(attempts.latch.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(attempts.lastSentAt - startedAt)).isGreaterThanOrEqualTo(P95_MILLIS);
+
+        attempts.sent.get(1).set("hedge");
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+        assertThat(attempts.sent.get(0).isCancelled()).isTrue();
+        assertThat(hedgedRequests.getHedgeCount()).isEqualTo(1);
+        assertThat(hedgedRequests.getHedgeWinCount()).isEqualTo(1);
+    }
+
+    @Test
+    void noHedgeWhenFirstAttemptAnswersInTime() throws Exception {
+        HedgedRequests hedgedRequests = new HedgedRequests(scheduler, trackerWithLatency(P95_MILLIS), true, 10);
+        Attempts attempts = new Attempts(2);
+
+        CompletableFuture<String> result = hedgedRequests.call(attempts);
+        attempts.sent.get(0).set("first");
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(attempts.latch.await(P95_MILLIS * 3, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(attempts.sent).hasSize(1);
+        assertThat(hedgedRequests.getHedgeCount()).isZero();
+    }
+
+    @Test
+    void failedAttemptWaitsForTheOtherAttempt() throws Exception {
+        HedgedRequests hedgedRequests = new HedgedRequests(scheduler, trackerWithLatency(P95_MILLIS), true, 10);
+        Attempts attempts = new Attempts(2);
+
+        CompletableFuture<String> result = hedgedRequests.call(attempts);
+        assertThat(attempts.latch.await(2, TimeUnit.SECONDS)).isTrue();
+
+        attempts.sent.get(0).setException(new IllegalStateException("first failed"));
+        assertThat(result).isNotDone();
+
+        attempts.sent.get(1).set("hedge");
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+    }
+
+    @Test
+    void disabledSendsSingleAttempt() throws Exception {
+        HedgedRequests hedgedRequests = new HedgedRequests(scheduler, trackerWithLatency(1), false, 1);
+        Attempts attempts = new Attempts(2);
+
+        hedgedRequests.call(attempts);
+
+        assertThat(attempts.latch.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        assertThat(attempts.sent).hasSize(1);
+    }
+
+    private static LatencyTracker trackerWithLatency(long millis) {
+        LatencyTracker tracker = new LatencyTracker(100, 0.95, 1000);
+        for (int i = 0; i < 100; i++) {
+            tracker.record(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+        return tracker;
+    }
+
+    /**
+     * 호출마다 완료되지 않은 future 를 만들어 보관
+     */
+    private static class Attempts implements Supplier<ListenableFuture<String>> {
+        private final List<SettableFuture<String>> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+        private volatile long lastSentAt;
+
+        Attempts(int expected) {
+            this.latch = new CountDownLatch(expected - 1);
+        }
+
+        @Override
+        public ListenableFuture<String> get() {
+            SettableFuture<String> future = SettableFuture.create();
+            lastSentAt = System.nanoTime();
+            sent.add(future);
+            if (sent.size() > 1) {
+                latch.countDown();
+            }
+            return future;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import auth.AuthServiceGrpc;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트, 벤치마크용 인증 서버 대역
+ * "valid-{userId}" 형식의 토큰만 유효한 것으로 응답
+ */
+public class InProcessAuthService extends AuthServiceGrpc.AuthServiceImplBase {
+
+    public static final String VALID_TOKEN_PREFIX = "valid-";
+
+    private final AtomicInteger verifyTokenCalls = new AtomicInteger();
+    private final AtomicInteger verifyTokensCalls = new AtomicInteger();
+
+    public static String validToken(long userId) {
+        return VALID_TOKEN_PREFIX + userId;
+    }
+
+    public Server start(String serverName) throws IOException {
+        return InProcessServerBuilder.forName(serverName)
+                .directExecutor()
+                .addService(this)
+                .build()
+                .start();
+    }
+
+    @Override
+    public void verifyToken(Auth.TokenRequest request, StreamObserver<Auth.TokenResponse> responseObserver) {
+        verifyTokenCalls.incrementAndGet();
+        responseObserver.onNext(verify(request.getToken()));
+        responseObserver.onCompleted();
+    }
+
+    @Override
+    public void verifyTokens(Auth.TokenBatchRequest request, StreamObserver<Auth.TokenBatchResponse> responseObserver) {
+        verifyTokensCalls.incrementAndGet();
+        Auth.TokenBatchResponse.Builder response = Auth.TokenBatchResponse.newBuilder();
+        for (int i = 0; i < request.getTokensCount(); i++) {
+            response.addResults(Auth.TokenBatchResult.newBuilder()
+                    .setIndex(i)
+                    .setResponse(verify(request.getTokens(i))));
+        }
+        responseObserver.onNext(response.build());
+        responseObserver.onCompleted();
+    }
+
+    public int getVerifyTokenCalls() {
+        return verifyTokenCalls.get();
+    }
+
+    public int getVerifyTokensCalls() {
+        return verifyTokensCalls.get();
+    }
+
+    private Auth.TokenResponse verify(String token) {
+        if (!token.startsWith(VALID_TOKEN_PREFIX)) {
+            return Auth.TokenResponse.newBuilder().setIsValid(false).build();
+        }
+        return Auth.TokenResponse.newBuilder()
+                .setIsValid(true)
+                .setUserId(Long.parseLong(token.substring(VALID_TOKEN_PREFIX.length())))
+                .build();
+    }
+}
@@ -0,0 +1,93 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisTokenCacheTest {
+
+    private static final long TOMBSTONE_MILLIS = 5_000;
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+    private final RedisTokenCache cache = new RedisTokenCache(redisTemplate, true, TOMBSTONE_MILLIS);
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void putChecksTombstonesInOneScript() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(1L);
+
+        assertThat(cache.put("hash", valid(7L), System.currentTimeMillis() + 60_000)).isTrue();
+
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("auth:token:hash", "auth:token:hash:revoked", "auth:user-tokens:7", "auth:user-tokens:7:revoked")),
+                any(Object[].class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void putRefusedAfterRevocation() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(0L);
+
+        assertThat(cache.put("hash", valid(7L), System.currentTimeMillis() + 60_000)).isFalse();
+    }
+
+    @Test
+    void evictUserLeavesTombstoneBeforeDeletingTokens() {
+        when(setOperations.members("auth:user-tokens:7")).thenReturn(Set.of("a"));
+
+        cache.evictUser(7L);
+
+        InOrder order = inOrder(valueOperations, setOperations, redisTemplate);
+        order.verify(valueOperations).set("auth:user-tokens:7:revoked", "1", Duration.ofMillis(TOMBSTONE_MILLIS));
+        order.verify(setOperations).members("auth:user-tokens:7");
+        order.verify(redisTemplate).delete(List.of("auth:token:a", "auth:user-tokens:7"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void evictFailuresAreCountedNotThrown() {
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.delete(anyCollection())).thenThrow(new RedisConnectionFailureException("down"));
+
+        cache.evictToken("hash");
+        cache.evictUser(7L);
+
+        assertThat(cache.getErrorCount()).isEqualTo(2);
+    }
+
+    private static Auth.TokenResponse valid(long userId) {
+        return Auth.TokenResponse.newBuilder().setIsValid(true).setUserId(userId).build();
+    }
+}
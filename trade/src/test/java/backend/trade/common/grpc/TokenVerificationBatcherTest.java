@@ -0,0 +1,68 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import auth.AuthServiceGrpc;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenVerificationBatcherTest {
+
+    private final InProcessAuthService authService = new InProcessAuthService();
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String serverName = "auth-batch-test";
+        server = authService.start(serverName);
+        channel = InProcessChannelBuilder.forName(serverName).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsAreSentAsOneBatch() {
+        AuthServiceGrpc.AuthServiceBlockingStub stub = AuthServiceGrpc.newBlockingStub(channel);
+        try (TokenVerificationBatcher batcher = new TokenVerificationBatcher(stub::verifyTokens, 10, 1_000_000, 1)) {
+            List<CompletableFuture<Auth.TokenResponse>> futures = new ArrayList<>();
+            for (long userId = 1; userId <= 9; userId++) {
+                futures.add(batcher.submit(InProcessAuthService.validToken(userId)));
+            }
+            futures.add(batcher.submit("invalid"));
+
+            for (int i = 0; i < 9; i++) {
+                Auth.TokenResponse response = futures.get(i).join();
+                assertThat(response.getIsValid()).isTrue();
+                assertThat(response.getUserId()).isEqualTo(i + 1);
+            }
+            assertThat(futures.get(9).join().getIsValid()).isFalse();
+            assertThat(authService.getVerifyTokensCalls()).isEqualTo(1);
+            assertThat(batcher.getBatchedTokenCount()).isEqualTo(10);
+        }
+    }
+
+    @Test
+    void partialBatchIsFlushedAfterMaxWait() {
+        AuthServiceGrpc.AuthServiceBlockingStub stub = AuthServiceGrpc.newBlockingStub(channel);
+        try (TokenVerificationBatcher batcher = new TokenVerificationBatcher(stub::verifyTokens, 64, 200, 1)) {
+            Auth.TokenResponse response = batcher.submit(InProcessAuthService.validToken(7)).join();
+
+            assertThat(response.getUserId()).isEqualTo(7);
+            assertThat(batcher.getBatchCount()).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package backend.trade.common.grpc;
+
+import auth.Auth;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenVerificationCacheTest {
+
+    private static final long MAX_TTL_MILLIS = 60_000;
+    private static final long NEGATIVE_TTL_MILLIS = 5_000;
+
+    private final MutableClock clock = new MutableClock(1_700_000_000_000L);
+
+    @Test
+    void validTokenExpiresAtExpClaimBeforeMaxTtl() {
+        TokenVerificationCache cache = cache(10, 10);
+        String token = token(clock.millis() + 10_000);
+        cache.put("a", token, valid(1L));
+
+        clock.advance(9_999);
+        assertThat(cache.get("a")).isNotNull();
+
+        clock.advance(1);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void validTokenWithoutExpExpiresAtMaxTtl() {
+        TokenVerificationCache cache = cache(10, 10);
+        cache.put("a", "opaque-token", valid(1L));
+
+        clock.advance(MAX_TTL_MILLIS - 1);
+        assertThat(cache.get("a")).isNotNull();
+
+        clock.advance(1);
+        assertThat(cache.get("a")).isNull();
+    }
+
+    @Test
+    void expiredTokenIsNotStored() {
+        TokenVerificationCache cache = cache(10, 10);
+        cache.put("a", token(clock.millis() - 1), valid(1L));
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidTokenIsCachedForNegativeTtl() {
+        TokenVerificationCache cache = cache(10, 10);
+        cache.put("a", "opaque-token", Auth.TokenResponse.newBuilder().setIsValid(false).build());
+
+        assertThat(cache.get("a").getIsValid()).isFalse();
+        assertThat(cache.getNegativeHitCount()).isEqualTo(1);
+        assertThat(cache.size()).isZero();
+
+        clock.advance(NEGATIVE_TTL_MILLIS);
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        TokenVerificationCache cache = cache(2, 2);
+        cache.put("a", "opaque-token", valid(1L));
+        cache.put("b", "opaque-token", valid(2L));
+        // a 를 최근 사용으로
+        cache.get("a");
+
+        cache.put("c", "opaque-token", valid(3L));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    @Test
+    void negativeEntriesDoNotEvictValidTokens() {
+        TokenVerificationCache cache = cache(2, 1);
+        cache.put("a", "opaque-token", valid(1L));
+        Auth.TokenResponse invalid = Auth.TokenResponse.newBuilder().setIsValid(false).build();
+        cache.put("x", "opaque-token", invalid);
+        cache.put("y", "opaque-token", invalid);
+
+        assertThat(cache.get("a")).isNotNull();
+        assertThat(cache.get("x")).isNull();
+        assertThat(cache.get("y")).isNotNull();
+    }
+
+    @Test
+    void invalidateUserRemovesOnlyThatUsersTokens() {
+        TokenVerificationCache cache = cache(10, 10);
+        cache.put("a", "opaque-token", valid(1L));
+        cache.put("b", "opaque-token", valid(1L));
+        cache.put("c", "opaque-token", valid(2L));
+
+        cache.invalidateUser(1L);
+
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isNull();
+        assertThat(cache.get("c")).isNotNull();
+    }
+
+    private TokenVerificationCache cache(int maxSize, int negativeMaxSize) {
+        return new TokenVerificationCache(true, maxSize, negativeMaxSize, MAX_TTL_MILLIS, NEGATIVE_TTL_MILLIS, clock);
+    }
+
+    private static Auth.TokenResponse valid(long userId) {
+        return Auth.TokenResponse.newBuilder().setIsValid(true).setUserId(userId).build();
+    }
+
+    /**
+     * exp claim 만 있는 서명 없는 JWT (캐시는 서명을 검증하지 않음)
+     */
+    private static String token(long expiresAtMillis) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = encoder.encodeToString(("{\"exp\":" + expiresAtMillis / 1000 + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".";
+    }
+
+    private static class MutableClock extends Clock {
+        private long millis;
+
+        MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
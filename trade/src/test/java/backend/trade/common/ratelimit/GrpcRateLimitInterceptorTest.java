@@ -0,0 +1,108 @@
+package backend.trade.common.ratelimit;
+
+import backend.trade.common.grpc.GrpcAuthContext;
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import trade.Trade;
+import trade.TradeServiceGrpc;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GrpcRateLimitInterceptorTest {
+
+    private static final String SERVER_NAME = "grpc-rate-limit-test";
+
+    private final AtomicInteger created = new AtomicInteger();
+    private Server server;
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        RateLimitProperties.Rule rule = new RateLimitProperties.Rule();
+        rule.setName("order-register");
+        rule.setGrpcMethods(List.of("trade.TradeService/CreateOrder"));
+        rule.setCapacity(2);
+        rule.setRefillPerSecond(0.001);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+
+        TradeServiceGrpc.TradeServiceImplBase service = new TradeServiceGrpc.TradeServiceImplBase() {
+            @Override
+            public void createOrder(Trade.CreateOrderRequest request, StreamObserver<Trade.OrderResponse> responseObserver) {
+                created.incrementAndGet();
+                responseObserver.onNext(Trade.OrderResponse.getDefaultInstance());
+                responseObserver.onCompleted();
+            }
+        };
+        // intercept 는 마지막 interceptor 부터 실행 : 인증(userId 설정) -> 요청 수 제한
+        server = InProcessServerBuilder.forName(SERVER_NAME).directExecutor()
+                .addService(ServerInterceptors.intercept(service,
+                        new GrpcRateLimitInterceptor(new RateLimiter(null, properties), new SimpleMeterRegistry()),
+                        new AuthenticatedAs(1L)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(SERVER_NAME).directExecutor().build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    void grpcCallsShareTheRuleBucketAndAreRejectedWithRetryAfter() {
+        TradeServiceGrpc.TradeServiceBlockingStub stub = TradeServiceGrpc.newBlockingStub(channel);
+        stub.createOrder(Trade.CreateOrderRequest.getDefaultInstance());
+        stub.createOrder(Trade.CreateOrderRequest.getDefaultInstance());
+
+        assertThatThrownBy(() -> stub.createOrder(Trade.CreateOrderRequest.getDefaultInstance()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, e -> {
+                    assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.RESOURCE_EXHAUSTED);
+                    assertThat(e.getTrailers().get(GrpcRateLimitInterceptor.RETRY_AFTER_KEY)).isNotNull();
+                });
+        assertThat(created).hasValue(2);
+    }
+
+    @Test
+    void methodsWithoutRuleAreNotLimited() {
+        TradeServiceGrpc.TradeServiceBlockingStub stub = TradeServiceGrpc.newBlockingStub(channel);
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> stub.getOrder(Trade.GetOrderRequest.getDefaultInstance()))
+                    .isInstanceOfSatisfying(StatusRuntimeException.class,
+                            e -> assertThat(e.getStatus().getCode()).isEqualTo(Status.Code.UNIMPLEMENTED));
+        }
+    }
+
+    /**
+     * GrpcAuthServerInterceptor 대신 userId 만 Context 에 설정
+     */
+    private record AuthenticatedAs(long userId) implements ServerInterceptor {
+        @Override
+        public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                     ServerCallHandler<ReqT, RespT> next) {
+            Context context = Context.current().withValue(GrpcAuthContext.USER_ID, userId);
+            return Contexts.interceptCall(context, call, headers, next);
+        }
+    }
+}
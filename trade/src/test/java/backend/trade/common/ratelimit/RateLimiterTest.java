@@ -0,0 +1,125 @@
+package backend.trade.common.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+    private RateLimiter rateLimiter;
+    private RateLimitProperties.Rule rule;
+
+    @BeforeEach
+    void setUp() {
+        rule = new RateLimitProperties.Rule();
+        rule.setName("order-register");
+        rule.setMethod("POST");
+        rule.setPath("/api/order/register");
+        rule.setGrpcMethods(List.of("trade.TradeService/CreateOrder"));
+        rule.setCapacity(3);
+        rule.setRefillPerSecond(1);
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRules(List.of(rule));
+        rateLimiter = new RateLimiter(null, properties, now::get);
+    }
+
+    @Test
+    void burstUpToCapacityThenRejectWithRetryAfter() {
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(rule, 1L)).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(rule, 1L)).isEqualTo(1000);
+        // 다른 사용자는 영향 없음
+        assertThat(rateLimiter.tryAcquire(rule, 2L)).isZero();
+    }
+
+    @Test
+    void tokensAreRefilledOverTime() {
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(rule, 1L);
+        }
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+        assertThat(rateLimiter.tryAcquire(rule, 1L)).isEqualTo(500);
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(600));
+        assertThat(rateLimiter.tryAcquire(rule, 1L)).isZero();
+    }
+
+    @Test
+    void ruleIsMatchedByMethodAndPattern() {
+        assertThat(rateLimiter.findRule("post", "/api/order/register")).isSameAs(rule);
+        assertThat(rateLimiter.findRule("GET", "/api/order/register")).isNull();
+    }
+
+    @Test
+    void grpcMethodSharesRestRule() {
+        assertThat(rateLimiter.findGrpcRule("trade.TradeService/CreateOrder")).isSameAs(rule);
+        assertThat(rateLimiter.findGrpcRule("trade.TradeService/GetOrder")).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void consumptionIsReportedAgainAfterFailedSync() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        when(redisTemplate.executePipelined(any(RedisCallback.class)))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenAnswer(invocation -> {
+                    invocation.<RedisCallback<Object>>getArgument(0).doInRedis(connection);
+                    return List.of(3L, true);
+                });
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRedisEnabled(true);
+        properties.setRules(List.of(rule));
+        RateLimiter limiter = new RateLimiter(redisTemplate, properties, now::get);
+
+        limiter.tryAcquire(rule, 1L);
+        limiter.tryAcquire(rule, 1L);
+        limiter.sync();
+        limiter.tryAcquire(rule, 1L);
+        limiter.sync();
+
+        // 실패한 2 건과 그 뒤의 1 건을 함께 보고
+        verify(connection).incrBy("ratelimit:order-register:1", 3L);
+    }
+
+    @Test
+    void otherNodesConsumptionIsDeducted() {
+        TokenBucket bucket = new TokenBucket(10, 1, now.get());
+        bucket.applyClusterTotal(0, 0, now.get());
+
+        for (int i = 0; i < 2; i++) {
+            assertThat(bucket.tryConsume(now.get())).isZero();
+        }
+        long reported = bucket.drainUnreported();
+        // 이 노드 2 + 다른 노드 8
+        bucket.applyClusterTotal(10, reported, now.get());
+
+        assertThat(bucket.tryConsume(now.get())).isPositive();
+    }
+
+    @Test
+    void idleBucketsAreEvicted() {
+        rateLimiter.tryAcquire(rule, 1L);
+        now.addAndGet(TimeUnit.MINUTES.toNanos(11));
+
+        rateLimiter.sync();
+
+        assertThat(rateLimiter.bucketCount()).isZero();
+    }
+}
@@ -0,0 +1,183 @@
+package backend.trade.order.cache;
+
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.Order;
+import backend.trade.order.model.OrderStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderCacheTest {
+
+    private static final String ORDER_ID = "order-1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    private final AtomicInteger loads = new AtomicInteger();
+    private OrderCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        givenRedisStoreResult(1L);
+        cache = new OrderCache(redisTemplate, objectMapper, true, 60_000, 60_000, 100, 2_000, Clock.systemUTC());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void missLoadsOnceThenHitsLocal() {
+        assertThat(cache.get(ORDER_ID, this::loadOrder)).map(Order::getId).hasValue(ORDER_ID);
+        assertThat(cache.get(ORDER_ID, this::loadOrder)).map(Order::getId).hasValue(ORDER_ID);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.getLocalHitCount()).isEqualTo(1);
+        assertThat(cache.getRedisMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    void redisHitSkipsLoaderAndFillsLocal() throws Exception {
+        when(valueOperations.get("order:" + ORDER_ID)).thenReturn(objectMapper.writeValueAsString(OrderSnapshot.of(order())));
+
+        assertThat(cache.get(ORDER_ID, this::loadOrder)).map(Order::getStatus).hasValue(OrderStatus.SHIPPED);
+        cache.get(ORDER_ID, this::loadOrder);
+
+        assertThat(loads).hasValue(0);
+        assertThat(cache.getRedisHitCount()).isEqualTo(1);
+        assertThat(cache.getLocalHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void loadRefusedByTombstoneIsNotCachedLocally() {
+        givenRedisStoreResult(0L);
+
+        cache.get(ORDER_ID, this::loadOrder);
+        cache.get(ORDER_ID, this::loadOrder);
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.localSize()).isZero();
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        int callers = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Optional<Order>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> cache.get(ORDER_ID, () -> {
+                    await(release);
+                    return loadOrder();
+                })));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (cache.getCoalescedLoadCount() < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<Optional<Order>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).map(Order::getId).hasValue(ORDER_ID);
+            }
+            assertThat(loads).hasValue(1);
+            assertThat(cache.getCoalescedLoadCount()).isEqualTo(callers - 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void evictRunsOnlyAfterCommit() {
+        cache.get(ORDER_ID, this::loadOrder);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.evictAfterCommit(ORDER_ID);
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        assertThat(cache.localSize()).isEqualTo(1);
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        assertThat(cache.localSize()).isZero();
+    }
+
+    @Test
+    void valueReadBeforeEvictIsNotCachedLocally() {
+        // DB 를 읽은 뒤 (commit 된 변경의) evict 가 먼저 끝난 경우
+        cache.get(ORDER_ID, () -> {
+            cache.evict(List.of(ORDER_ID));
+            return loadOrder();
+        });
+
+        assertThat(cache.localSize()).isZero();
+        cache.get(ORDER_ID, this::loadOrder);
+        assertThat(loads).hasValue(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRedisStoreResult(long result) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenReturn(result);
+    }
+
+    private Optional<Order> loadOrder() {
+        loads.incrementAndGet();
+        return Optional.of(order());
+    }
+
+    private static Order order() {
+        return Order.builder()
+                .id(ORDER_ID)
+                .orderDate(LocalDateTime.of(2024, 5, 1, 10, 0))
+                .userId(1L)
+                .status(OrderStatus.SHIPPED)
+                .itemType(ItemType.GOLD_999)
+                .invoice(Invoice.PURCHASE)
+                .quantity(1.5)
+                .shippingAddress("Seoul")
+                .version(0L)
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package backend.trade.order.grpc;
+
+import backend.trade.order.dto.OrderRegisterResultDto;
+import backend.trade.order.service.OrderService;
+import io.grpc.stub.ServerCallStreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import trade.Trade;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderSubmissionStreamTest {
+
+    private static final long USER_ID = 1L;
+
+    private final OrderService orderService = mock(OrderService.class);
+    @SuppressWarnings("unchecked")
+    private final ServerCallStreamObserver<Trade.OrderAck> responseObserver = mock(ServerCallStreamObserver.class);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> new Thread(runnable, "test-linger"));
+    private final ExecutorService flushExecutor = Executors.newSingleThreadExecutor(
+            runnable -> new Thread(runnable, "test-flush"));
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        flushExecutor.shutdownNow();
+    }
+
+    @Test
+    void fullGroupIsCommittedAtOnceAndNextGroupRequested() {
+        when(responseObserver.isReady()).thenReturn(true);
+        givenCreateOrdersSucceeds(null);
+        OrderSubmissionStream stream = start(3, 60_000);
+
+        stream.onNext(submission(1));
+        stream.onNext(submission(2));
+        verify(orderService, never()).createOrders(eq(USER_ID), anyList());
+
+        stream.onNext(submission(3));
+
+        verify(orderService).createOrders(eq(USER_ID), anyList());
+        ArgumentCaptor<Trade.OrderAck> acks = ArgumentCaptor.forClass(Trade.OrderAck.class);
+        verify(responseObserver, times(3)).onNext(acks.capture());
+        assertThat(acks.getAllValues()).extracting(Trade.OrderAck::getSequence).containsExactly(1L, 2L, 3L);
+        // 시작할 때 한 번, group commit 후 한 번
+        verify(responseObserver, times(2)).request(3);
+    }
+
+    @Test
+    void partialGroupIsCommittedOnFlushExecutorAfterLinger() {
+        when(responseObserver.isReady()).thenReturn(true);
+        AtomicReference<String> commitThread = new AtomicReference<>();
+        givenCreateOrdersSucceeds(commitThread);
+        OrderSubmissionStream stream = start(10, 20);
+
+        stream.onNext(submission(1));
+        stream.onNext(submission(2));
+
+        verify(orderService, timeout(2_000)).createOrders(eq(USER_ID), anyList());
+        verify(responseObserver, timeout(2_000)).request(2);
+        assertThat(commitThread.get()).isEqualTo("test-flush");
+    }
+
+    @Test
+    void nextGroupIsRequestedOnlyWhenResponseIsReady() {
+        when(responseObserver.isReady()).thenReturn(false);
+        givenCreateOrdersSucceeds(null);
+        OrderSubmissionStream stream = start(2, 60_000);
+        ArgumentCaptor<Runnable> onReady = ArgumentCaptor.forClass(Runnable.class);
+        verify(responseObserver).setOnReadyHandler(onReady.capture());
+
+        stream.onNext(submission(1));
+        stream.onNext(submission(2));
+
+        // 시작할 때 요청한 것 외에는 요청하지 않음
+        verify(responseObserver, times(1)).request(2);
+
+        when(responseObserver.isReady()).thenReturn(true);
+        onReady.getValue().run();
+        verify(responseObserver, times(2)).request(2);
+
+        // 미룬 요청은 한 번만
+        onReady.getValue().run();
+        verify(responseObserver, times(2)).request(2);
+    }
+
+    private OrderSubmissionStream start(int groupSize, long lingerMillis) {
+        OrderSubmissionStream stream = new OrderSubmissionStream(responseObserver, orderService, USER_ID,
+                groupSize, lingerMillis, scheduler, flushExecutor);
+        stream.start();
+        verify(responseObserver).disableAutoRequest();
+        return stream;
+    }
+
+    private void givenCreateOrdersSucceeds(AtomicReference<String> commitThread) {
+        when(orderService.createOrders(eq(USER_ID), anyList())).thenAnswer(invocation -> {
+            if (commitThread != null) {
+                commitThread.set(Thread.currentThread().getName());
+            }
+            List<?> requests = invocation.getArgument(1);
+            return IntStream.range(0, requests.size())
+                    .mapToObj(i -> OrderRegisterResultDto.success(i, "order-" + i))
+                    .toList();
+        });
+    }
+
+    private static Trade.OrderSubmission submission(long sequence) {
+        return Trade.OrderSubmission.newBuilder()
+                .setSequence(sequence)
+                .setOrder(Trade.CreateOrderRequest.newBuilder()
+                        .setUserId(USER_ID)
+                        .setInvoice(Trade.Invoice.PURCHASE)
+                        .setItemType(Trade.ItemType.GOLD_999)
+                        .setQuantity(1.5)
+                        .setShippingAddress("Seoul"))
+                .build();
+    }
+}
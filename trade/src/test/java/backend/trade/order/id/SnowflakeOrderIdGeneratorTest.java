@@ -0,0 +1,107 @@
+package backend.trade.order.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeOrderIdGeneratorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Test
+    void generatesUniqueMonotonicIdsAcrossThreads() throws Exception {
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(7, 10, 2000, System::currentTimeMillis, ZONE);
+        int threads = 8;
+        int perThread = 500_000;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<long[]>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                long[] ids = new long[perThread];
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    ids[i] = generator.nextValue();
+                }
+                return ids;
+            }));
+        }
+
+        start.countDown();
+        long[] all = new long[threads * perThread];
+        int offset = 0;
+        for (Future<long[]> future : futures) {
+            long[] ids = future.get();
+            for (int i = 1; i < ids.length; i++) {
+                assertTrue(ids[i] > ids[i - 1], "ids must increase within a thread");
+            }
+            System.arraycopy(ids, 0, all, offset, ids.length);
+            offset += ids.length;
+        }
+        executor.shutdown();
+
+        Arrays.sort(all);
+        for (int i = 1; i < all.length; i++) {
+            assertTrue(all[i] != all[i - 1], "duplicate id " + all[i]);
+        }
+    }
+
+    @Test
+    void formatsSortableOrderNumber() {
+        // 2026-10-18T00:00:00+09:00
+        long now = 1792249200000L;
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(1, 10, 2000, () -> now, ZONE);
+
+        String first = generator.nextId();
+        String second = generator.nextId();
+
+        assertTrue(first.startsWith("ORDER-20261018-"), first);
+        assertEquals("ORDER-20261018-".length() + 19, first.length());
+        assertTrue(first.compareTo(second) < 0);
+    }
+
+    @Test
+    void keepsIncreasingWhenClockMovesBackSlightly() {
+        AtomicLong clock = new AtomicLong(1792249200000L);
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(1, 10, 2000, clock::get, ZONE);
+
+        long before = generator.nextValue();
+        clock.addAndGet(-5);
+        long after = generator.nextValue();
+
+        assertTrue(after > before);
+    }
+
+    @Test
+    void refusesWhenClockMovesBackTooFar() {
+        AtomicLong clock = new AtomicLong(1792249200000L);
+        SnowflakeOrderIdGenerator generator = new SnowflakeOrderIdGenerator(1, 10, 2000, clock::get, ZONE);
+
+        generator.nextValue();
+        clock.addAndGet(-5000);
+
+        assertThrows(IllegalStateException.class, generator::nextValue);
+    }
+
+    @Test
+    void differentNodesNeverCollide() {
+        long now = 1792249200000L;
+        SnowflakeOrderIdGenerator node1 = new SnowflakeOrderIdGenerator(1, 10, 2000, () -> now, ZONE);
+        SnowflakeOrderIdGenerator node2 = new SnowflakeOrderIdGenerator(2, 10, 2000, () -> now, ZONE);
+
+        assertTrue(node1.nextValue() != node2.nextValue());
+    }
+}
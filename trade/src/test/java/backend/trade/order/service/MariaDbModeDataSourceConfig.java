@@ -0,0 +1,24 @@
+package backend.trade.order.service;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+/**
+ * 요약 upsert 가 MariaDB 문법(on duplicate key update)이라 H2 를 MariaDB 모드로 실행
+ * (@AutoConfigureTestDatabase(replace = NONE) 와 함께 사용, 테스트 context 마다 별도 DB)
+ */
+@TestConfiguration
+class MariaDbModeDataSourceConfig {
+
+    @Bean
+    DataSource dataSource() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+        dataSource.setDriverClassName("org.h2.Driver");
+        return dataSource;
+    }
+}
@@ -0,0 +1,114 @@
+package backend.trade.order.service;
+
+import backend.trade.order.cache.OrderCache;
+import backend.trade.order.dto.OrderRegisterRequestDto;
+import backend.trade.order.dto.OrderRegisterResultDto;
+import backend.trade.order.id.SnowflakeOrderIdGenerator;
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.repository.OrderRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 주문 한 건씩 등록(createOrder) vs 대량 등록(createOrders, batch insert) 처리량 비교
+ * ./gradlew benchmark 로 실행 (기본 test 에서는 제외), 결과는 표준 출력
+ * H2 in-memory 기준이므로 절대값보다 두 방식의 비율을 볼 것 (실제 MariaDB 에서는 round trip 비용으로 차이가 더 커짐)
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=false"
+})
+@Import({OrderService.class, SnowflakeOrderIdGenerator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderBulkInsertBenchmark {
+
+    private static final long USER_ID = 1L;
+    private static final int ROWS = 20_000;
+    private static final int BULK_SIZE = 5_000;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    // Redis 없이 실행 (등록 경로는 캐시를 쓰지 않음)
+    @MockBean
+    private OrderCache orderCache;
+
+    // 주문 insert 만 비교 (요약 upsert 는 MariaDB 문법이라 H2 기본 모드에서 실행하지 않음)
+    @MockBean
+    private OrderSummaryService orderSummaryService;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void compareSingleAndBulkInsert() {
+        // warm up
+        insertOneByOne(1_000);
+        insertInBulk(1_000);
+        orderRepository.deleteAllInBatch();
+
+        long single = insertOneByOne(ROWS);
+        long bulk = insertInBulk(ROWS);
+
+        double singleRate = ROWS / (single / 1e9);
+        double bulkRate = ROWS / (bulk / 1e9);
+        System.out.printf("createOrder  : %,d rows in %,d ms (%,.0f rows/s)%n", ROWS, single / 1_000_000, singleRate);
+        System.out.printf("createOrders : %,d rows in %,d ms (%,.0f rows/s, x%.1f)%n", ROWS, bulk / 1_000_000, bulkRate, bulkRate / singleRate);
+
+        assertEquals(ROWS * 2L, orderRepository.count());
+    }
+
+    private long insertOneByOne(int rows) {
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < rows; i++) {
+            orderService.createOrder(USER_ID, request(i));
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private long insertInBulk(int rows) {
+        long startedAt = System.nanoTime();
+        for (int offset = 0; offset < rows; offset += BULK_SIZE) {
+            List<OrderRegisterRequestDto> requests = new ArrayList<>(BULK_SIZE);
+            for (int i = offset; i < Math.min(rows, offset + BULK_SIZE); i++) {
+                requests.add(request(i));
+            }
+            List<OrderRegisterResultDto> results = orderService.createOrders(USER_ID, requests);
+            assertTrue(results.stream().allMatch(OrderRegisterResultDto::isSuccess));
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private OrderRegisterRequestDto request(int i) {
+        return OrderRegisterRequestDto.builder()
+                .userId(USER_ID)
+                .invoice(i % 2 == 0 ? Invoice.PURCHASE : Invoice.SELL)
+                .itemType(ItemType.GOLD_999)
+                .quantity(1.5 + i % 10)
+                .shippingAddress("Seoul " + i)
+                .build();
+    }
+}
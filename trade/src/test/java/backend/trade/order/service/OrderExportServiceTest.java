@@ -0,0 +1,105 @@
+package backend.trade.order.service;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import backend.trade.order.dto.OrderExportRow;
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.OrderStatus;
+import backend.trade.order.repository.OrderRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderExportServiceTest {
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderExportService exportService =
+            new OrderExportService(orderRepository, new ObjectMapper().registerModule(new JavaTimeModule()), 1);
+
+    @Test
+    void csvFieldQuotesOnlyWhenNeeded() {
+        assertThat(OrderExportService.csvField(null)).isEmpty();
+        assertThat(OrderExportService.csvField("Seoul Gangnam")).isEqualTo("Seoul Gangnam");
+        assertThat(OrderExportService.csvField("Seoul, Gangnam")).isEqualTo("\"Seoul, Gangnam\"");
+        assertThat(OrderExportService.csvField("101 \"A\" dong")).isEqualTo("\"101 \"\"A\"\" dong\"");
+        assertThat(OrderExportService.csvField("line1\nline2")).isEqualTo("\"line1\nline2\"");
+        assertThat(OrderExportService.csvField("line1\r\nline2")).isEqualTo("\"line1\r\nline2\"");
+    }
+
+    @Test
+    void csvIsFlushedEveryThousandRows() throws Exception {
+        givenRows(2_500);
+        FlushRecordingStream out = new FlushRecordingStream();
+
+        long count = exportService.write(1L, null, null, OrderExportService.Format.CSV, out);
+
+        assertThat(count).isEqualTo(2_500);
+        // header + 1000 행, header + 2000 행, 마지막 flush
+        assertThat(out.linesAtFlush).containsExactly(1_001L, 2_001L, 2_501L);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).isEqualTo("id,orderDate,userId,status,itemType,invoice,quantity,shippingAddress");
+        assertThat(lines[1]).isEqualTo("order-0,2024-05-01T10:00,1,ORDER_COMPLETED,GOLD_999,PURCHASE,1.5,\"Seoul, 0\"");
+    }
+
+    @Test
+    void ndjsonIsFlushedEveryThousandRows() throws Exception {
+        givenRows(1_500);
+        FlushRecordingStream out = new FlushRecordingStream();
+
+        exportService.write(1L, null, null, OrderExportService.Format.NDJSON, out);
+
+        assertThat(out.linesAtFlush).first().isEqualTo(1_000L);
+        assertThat(out.linesAtFlush).last().isEqualTo(1_500L);
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(1_500);
+        assertThat(new ObjectMapper().readTree(lines[0]).path("id").asText()).isEqualTo("order-0");
+    }
+
+    @Test
+    void restExportsAreLimited() {
+        exportService.acquireRestExport();
+        assertThatThrownBy(exportService::acquireRestExport)
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getCustomError()).isEqualTo(CustomError.TOO_MANY_EXPORTS));
+
+        exportService.releaseRestExport();
+        exportService.acquireRestExport();
+    }
+
+    private void givenRows(int count) {
+        when(orderRepository.streamForExport(eq(1L), any(), any())).thenAnswer(invocation ->
+                IntStream.range(0, count).mapToObj(i -> new OrderExportRow("order-" + i,
+                        LocalDateTime.of(2024, 5, 1, 10, 0), 1L, OrderStatus.ORDER_COMPLETED, ItemType.GOLD_999,
+                        Invoice.PURCHASE, 1.5, "Seoul, " + i)));
+    }
+
+    /**
+     * flush 시점마다 그때까지 쓴 줄 수를 기록
+     */
+    private static class FlushRecordingStream extends ByteArrayOutputStream {
+        private final List<Long> linesAtFlush = new ArrayList<>();
+
+        @Override
+        public void flush() {
+            long lines = toString(StandardCharsets.UTF_8).chars().filter(c -> c == '\n').count();
+            if (linesAtFlush.isEmpty() || linesAtFlush.get(linesAtFlush.size() - 1) != lines) {
+                linesAtFlush.add(lines);
+            }
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package backend.trade.order.service;
+
+import backend.trade.common.exception.CustomError;
+import backend.trade.common.exception.CustomException;
+import backend.trade.order.cache.OrderCache;
+import backend.trade.order.dto.OrderBatchStatusUpdateDto;
+import backend.trade.order.dto.OrderRegisterRequestDto;
+import backend.trade.order.dto.OrderRegisterResultDto;
+import backend.trade.order.dto.OrderStatusChangeResultDto;
+import backend.trade.order.dto.OrderStatusUpdateDto;
+import backend.trade.order.id.SnowflakeOrderIdGenerator;
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.Order;
+import backend.trade.order.model.OrderStatus;
+import backend.trade.order.repository.OrderPositionRepository;
+import backend.trade.order.repository.OrderRepository;
+import backend.trade.order.repository.OrderSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 주문 상태 전환 (조건부 UPDATE) 을 실제 트랜잭션으로 검증
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        // 여러 건 전환이 여러 묶음으로 나뉘도록
+        "spring.jpa.properties.hibernate.jdbc.batch_size=2"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderService.class, OrderSummaryService.class, SnowflakeOrderIdGenerator.class, MariaDbModeDataSourceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private OrderPositionRepository orderPositionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Redis 없이 실행 (commit 후 evict 만 호출됨)
+    @MockBean
+    private OrderCache orderCache;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+        orderSummaryRepository.deleteAllInBatch();
+        orderPositionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void concurrentSameTransitionSucceedsOnce() throws Exception {
+        String orderId = create(Invoice.PURCHASE).get(0);
+        int callers = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<CustomError>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit((Callable<CustomError>) () -> {
+                    start.await(5, TimeUnit.SECONDS);
+                    try {
+                        orderService.updateOrderStatus(USER_ID,
+                                new OrderStatusUpdateDto(USER_ID, orderId, OrderStatus.PAYMENT_COMPLETED));
+                        return null;
+                    } catch (CustomException e) {
+                        return e.getCustomError();
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<CustomError> result : results) {
+                CustomError error = result.get(30, TimeUnit.SECONDS);
+                if (error == null) {
+                    succeeded++;
+                } else {
+                    assertThat(error).isEqualTo(CustomError.STATUS_NOT_AVAILABLE);
+                }
+            }
+            assertThat(succeeded).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Order order = orderRepository.findById(orderId).orElseThrow();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAYMENT_COMPLETED);
+        assertThat(order.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    void failedTransitionReportsReason() {
+        String sellOrderId = create(Invoice.SELL).get(0);
+
+        assertThatThrownBy(() -> orderService.updateOrderStatus(USER_ID,
+                new OrderStatusUpdateDto(USER_ID, sellOrderId, OrderStatus.SHIPPED)))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getCustomError()).isEqualTo(CustomError.STATUS_NOT_FOR_SELL));
+        assertThatThrownBy(() -> orderService.updateOrderStatus(USER_ID,
+                new OrderStatusUpdateDto(USER_ID, sellOrderId, OrderStatus.RECEIVED)))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getCustomError()).isEqualTo(CustomError.STATUS_NOT_AVAILABLE));
+        assertThatThrownBy(() -> orderService.updateOrderStatus(USER_ID,
+                new OrderStatusUpdateDto(USER_ID, "missing", OrderStatus.RECEIVED)))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getCustomError()).isEqualTo(CustomError.ORDER_NOT_FOUND));
+    }
+
+    @Test
+    void orderReadInSameTransactionSeesNewStatus() {
+        String orderId = create(Invoice.PURCHASE).get(0);
+
+        OrderStatus status = new TransactionTemplate(transactionManager).execute(tx -> {
+            // 전환 전에 읽어서 영속성 컨텍스트에 올려 둠
+            orderRepository.findById(orderId).orElseThrow();
+            orderService.updateOrderStatus(USER_ID, new OrderStatusUpdateDto(USER_ID, orderId, OrderStatus.PAYMENT_COMPLETED));
+            return orderRepository.findById(orderId).orElseThrow().getStatus();
+        });
+
+        assertThat(status).isEqualTo(OrderStatus.PAYMENT_COMPLETED);
+    }
+
+    @Test
+    void batchTransitionReportsEachOrderInRequestOrder() {
+        List<String> ids = create(Invoice.PURCHASE, Invoice.PURCHASE, Invoice.SELL, Invoice.PURCHASE);
+        String p1 = ids.get(0);
+        String p2 = ids.get(1);
+        String s1 = ids.get(2);
+        String p3 = ids.get(3);
+        String otherUsers = orderService.createOrders(2L, List.of(
+                new OrderRegisterRequestDto(2L, Invoice.PURCHASE, ItemType.GOLD_999, 1.0, "Seoul"))).get(0).getOrderId();
+        orderService.updateOrderStatus(USER_ID, new OrderStatusUpdateDto(USER_ID, p2, OrderStatus.PAYMENT_COMPLETED));
+
+        // batch_size 2 : [p3, missing], [s1, p1], [p2, otherUsers] (p1 중복은 한 번만 전환)
+        List<OrderStatusChangeResultDto> results = orderService.updateOrderStatuses(USER_ID,
+                new OrderBatchStatusUpdateDto(USER_ID, OrderStatus.PAYMENT_COMPLETED,
+                        List.of(p3, "missing", s1, p1, p2, p1, otherUsers)));
+
+        assertThat(results)
+                .extracting(OrderStatusChangeResultDto::getOrderId, OrderStatusChangeResultDto::getErrorCode)
+                .containsExactly(
+                        tuple(p3, null),
+                        tuple("missing", CustomError.ORDER_NOT_FOUND.getErrorCode()),
+                        tuple(s1, CustomError.STATUS_NOT_FOR_SELL.getErrorCode()),
+                        tuple(p1, null),
+                        tuple(p2, CustomError.STATUS_NOT_AVAILABLE.getErrorCode()),
+                        tuple(p1, null),
+                        tuple(otherUsers, CustomError.ORDER_NOT_FOUND.getErrorCode()));
+
+        assertThat(orderRepository.findById(p1).orElseThrow())
+                .extracting(Order::getStatus, Order::getVersion)
+                .containsExactly(OrderStatus.PAYMENT_COMPLETED, 1L);
+        assertThat(orderRepository.findById(p3).orElseThrow().getStatus()).isEqualTo(OrderStatus.PAYMENT_COMPLETED);
+        assertThat(orderRepository.findById(s1).orElseThrow().getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETED);
+        assertThat(orderRepository.findById(otherUsers).orElseThrow().getStatus()).isEqualTo(OrderStatus.ORDER_COMPLETED);
+    }
+
+    @Test
+    void batchTransitionWithUnreachableStatusIsRejected() {
+        List<String> ids = create(Invoice.PURCHASE);
+
+        assertThatThrownBy(() -> orderService.updateOrderStatuses(USER_ID,
+                new OrderBatchStatusUpdateDto(USER_ID, OrderStatus.ORDER_COMPLETED, ids)))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getCustomError()).isEqualTo(CustomError.STATUS_NOT_AVAILABLE));
+    }
+
+    private List<String> create(Invoice... invoices) {
+        List<OrderRegisterRequestDto> requests = new ArrayList<>();
+        for (Invoice invoice : invoices) {
+            requests.add(new OrderRegisterRequestDto(USER_ID, invoice, ItemType.GOLD_999, 1.0, "Seoul"));
+        }
+        return orderService.createOrders(USER_ID, requests).stream()
+                .map(OrderRegisterResultDto::getOrderId)
+                .toList();
+    }
+}
@@ -0,0 +1,32 @@
+package backend.trade.order.service;
+
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatusTransitionsTest {
+
+    @Test
+    void purchaseTransitions() {
+        assertThat(OrderStatusTransitions.forTarget(OrderStatus.PAYMENT_COMPLETED))
+                .isEqualTo(new OrderStatusTransitions.Transition(Invoice.PURCHASE, OrderStatus.ORDER_COMPLETED));
+        assertThat(OrderStatusTransitions.forTarget(OrderStatus.SHIPPED))
+                .isEqualTo(new OrderStatusTransitions.Transition(Invoice.PURCHASE, OrderStatus.PAYMENT_COMPLETED));
+    }
+
+    @Test
+    void sellTransitions() {
+        assertThat(OrderStatusTransitions.forTarget(OrderStatus.PAYMENT_RECEIVED))
+                .isEqualTo(new OrderStatusTransitions.Transition(Invoice.SELL, OrderStatus.ORDER_COMPLETED));
+        assertThat(OrderStatusTransitions.forTarget(OrderStatus.RECEIVED))
+                .isEqualTo(new OrderStatusTransitions.Transition(Invoice.SELL, OrderStatus.PAYMENT_RECEIVED));
+    }
+
+    @Test
+    void initialStatusAndNullAreNotTargets() {
+        assertThat(OrderStatusTransitions.forTarget(OrderStatus.ORDER_COMPLETED)).isNull();
+        assertThat(OrderStatusTransitions.forTarget(null)).isNull();
+    }
+}
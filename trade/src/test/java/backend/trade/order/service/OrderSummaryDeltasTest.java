@@ -0,0 +1,84 @@
+package backend.trade.order.service;
+
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.Order;
+import backend.trade.order.model.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderSummaryDeltasTest {
+
+    private static final LocalDateTime DAY_1 = LocalDateTime.of(2024, 5, 1, 10, 0);
+    private static final LocalDateTime DAY_2 = LocalDateTime.of(2024, 5, 2, 23, 59);
+
+    @Test
+    void mergeSameDayAndSumPositionsAcrossDays() {
+        OrderSummaryDeltas deltas = new OrderSummaryDeltas();
+        deltas.created(order(2L, Invoice.PURCHASE, ItemType.GOLD_999, 1.10, DAY_1, OrderStatus.ORDER_COMPLETED));
+        deltas.created(order(2L, Invoice.PURCHASE, ItemType.GOLD_999, 2.20, DAY_1, OrderStatus.ORDER_COMPLETED));
+        deltas.created(order(2L, Invoice.SELL, ItemType.GOLD_999, 0.30, DAY_2, OrderStatus.ORDER_COMPLETED));
+        deltas.created(order(1L, Invoice.SELL, ItemType.GOLD_9999, 5, DAY_1, OrderStatus.ORDER_COMPLETED));
+
+        Map<OrderSummaryDeltas.DayKey, OrderSummaryDeltas.Delta> daily = deltas.daily();
+        // 같은 잠금 순서를 위해 (userId, itemType, tradeDate) 순서
+        assertThat(List.copyOf(daily.keySet())).containsExactly(
+                new OrderSummaryDeltas.DayKey(1L, ItemType.GOLD_9999, DAY_1.toLocalDate()),
+                new OrderSummaryDeltas.DayKey(2L, ItemType.GOLD_999, DAY_1.toLocalDate()),
+                new OrderSummaryDeltas.DayKey(2L, ItemType.GOLD_999, DAY_2.toLocalDate()));
+
+        OrderSummaryDeltas.Delta day1 = daily.get(new OrderSummaryDeltas.DayKey(2L, ItemType.GOLD_999, LocalDate.of(2024, 5, 1)));
+        assertThat(day1.purchase).isEqualByComparingTo("3.30");
+        assertThat(day1.orderCount).isEqualTo(2);
+
+        OrderSummaryDeltas.Delta position = deltas.positions().get(new OrderSummaryDeltas.PositionKey(2L, ItemType.GOLD_999));
+        assertThat(position.purchase.subtract(position.sell)).isEqualByComparingTo("3.00");
+        assertThat(position.orderCount).isEqualTo(3);
+    }
+
+    @Test
+    void deleteSettledOrderRevertsOrderedAndSettled() {
+        Order order = order(1L, Invoice.PURCHASE, ItemType.GOLD_999, 1.25, DAY_1, OrderStatus.SHIPPED);
+
+        OrderSummaryDeltas deltas = new OrderSummaryDeltas();
+        deltas.deleted(order);
+
+        OrderSummaryDeltas.Delta delta = deltas.daily().values().iterator().next();
+        assertThat(delta.purchase).isEqualByComparingTo("-1.25");
+        assertThat(delta.settledPurchase).isEqualByComparingTo("-1.25");
+        assertThat(delta.settledSell).isEqualByComparingTo(BigDecimal.ZERO);
+        assertThat(delta.orderCount).isEqualTo(-1);
+    }
+
+    @Test
+    void createThenDeleteInSameTransactionIsNoOp() {
+        Order order = order(1L, Invoice.SELL, ItemType.GOLD_9999, 0.07, DAY_2, OrderStatus.ORDER_COMPLETED);
+
+        OrderSummaryDeltas deltas = new OrderSummaryDeltas();
+        deltas.created(order);
+        deltas.deleted(order);
+
+        assertThat(deltas.daily().values()).allMatch(OrderSummaryDeltas.Delta::isZero);
+        assertThat(deltas.positions().values()).allMatch(OrderSummaryDeltas.Delta::isZero);
+    }
+
+    private static Order order(long userId, Invoice invoice, ItemType itemType, double quantity,
+                               LocalDateTime orderDate, OrderStatus status) {
+        return Order.builder()
+                .id("order-" + userId + "-" + orderDate + "-" + quantity)
+                .userId(userId)
+                .invoice(invoice)
+                .itemType(itemType)
+                .quantity(quantity)
+                .orderDate(orderDate)
+                .status(status)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package backend.trade.order.service;
+
+import backend.trade.order.repository.OrderPositionRepository;
+import backend.trade.order.repository.OrderRepository;
+import backend.trade.order.repository.OrderSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 범위 단위 재시도 (요약 합계 검증은 OrderSummaryTotalsTest)
+ */
+class OrderSummaryRebuildJobTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final OrderRepository orderRepository = mock(OrderRepository.class);
+    private final OrderSummaryRepository orderSummaryRepository = mock(OrderSummaryRepository.class);
+    private final OrderPositionRepository orderPositionRepository = mock(OrderPositionRepository.class);
+    private final OrderSummaryService orderSummaryService = mock(OrderSummaryService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private OrderSummaryRebuildJob job;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(orderRepository.findMinUserId()).thenReturn(1L);
+        when(orderRepository.findMaxUserId()).thenReturn(1L);
+        when(orderRepository.streamSummaryViewsByUserRange(anyLong(), anyLong())).thenAnswer(invocation -> Stream.empty());
+        job = new OrderSummaryRebuildJob(orderRepository, orderSummaryRepository, orderPositionRepository,
+                orderSummaryService, transactionManager, 10, 1, MAX_ATTEMPTS);
+    }
+
+    @Test
+    void lockFailureIsRetriedInANewTransaction() {
+        when(orderSummaryRepository.deleteDailyByUserRange(1L, 1L))
+                .thenThrow(new CannotAcquireLockException("Deadlock found when trying to get lock"))
+                .thenReturn(0);
+
+        OrderSummaryRebuildJob.Result result = job.rebuild();
+
+        assertThat(result.chunks()).isEqualTo(1);
+        assertThat(result.failedChunks()).isZero();
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(orderSummaryService).apply(any());
+    }
+
+    @Test
+    void chunkFailsAfterMaxAttempts() {
+        when(orderSummaryRepository.deleteDailyByUserRange(1L, 1L))
+                .thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded"));
+
+        OrderSummaryRebuildJob.Result result = job.rebuild();
+
+        assertThat(result.failedChunks()).isEqualTo(1);
+        verify(orderSummaryRepository, times(MAX_ATTEMPTS)).deleteDailyByUserRange(1L, 1L);
+        verify(orderSummaryService, times(0)).apply(any());
+    }
+
+    @Test
+    void otherFailuresAreNotRetried() {
+        when(orderSummaryRepository.deleteDailyByUserRange(1L, 1L))
+                .thenThrow(new DataIntegrityViolationException("constraint"));
+
+        OrderSummaryRebuildJob.Result result = job.rebuild();
+
+        assertThat(result.failedChunks()).isEqualTo(1);
+        verify(orderSummaryRepository, times(1)).deleteDailyByUserRange(1L, 1L);
+    }
+}
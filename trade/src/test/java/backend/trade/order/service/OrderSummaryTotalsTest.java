@@ -0,0 +1,235 @@
+package backend.trade.order.service;
+
+import backend.trade.order.cache.OrderCache;
+import backend.trade.order.dto.OrderBatchStatusUpdateDto;
+import backend.trade.order.dto.OrderDeleteRequestDto;
+import backend.trade.order.dto.OrderRegisterRequestDto;
+import backend.trade.order.dto.OrderRegisterResultDto;
+import backend.trade.order.dto.OrderStatusUpdateDto;
+import backend.trade.order.id.SnowflakeOrderIdGenerator;
+import backend.trade.order.model.Invoice;
+import backend.trade.order.model.ItemType;
+import backend.trade.order.model.Order;
+import backend.trade.order.model.OrderStatus;
+import backend.trade.order.repository.OrderPositionRepository;
+import backend.trade.order.repository.OrderRepository;
+import backend.trade.order.repository.OrderSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 주문 등록/상태 변경/삭제로 쌓인 요약 증감이 OrderSummaryRebuildJob 으로 다시 계산한 값과 같은지
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({OrderService.class, OrderSummaryService.class, OrderSummaryRebuildJob.class, SnowflakeOrderIdGenerator.class,
+        MariaDbModeDataSourceConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OrderSummaryTotalsTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderSummaryRebuildJob rebuildJob;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderSummaryRepository orderSummaryRepository;
+
+    @Autowired
+    private OrderPositionRepository orderPositionRepository;
+
+    @Autowired
+    private OrderSummaryService orderSummaryService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    // Redis 없이 실행 (commit 후 evict 만 호출됨)
+    @MockBean
+    private OrderCache orderCache;
+
+    @BeforeEach
+    void setUp() {
+        orderRepository.deleteAllInBatch();
+        orderSummaryRepository.deleteAllInBatch();
+        orderPositionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void incrementalTotalsMatchRebuild() {
+        List<String> user1 = create(1L,
+                order(1L, Invoice.PURCHASE, ItemType.GOLD_999, 1.234),
+                order(1L, Invoice.PURCHASE, ItemType.GOLD_9999, 2.5),
+                order(1L, Invoice.SELL, ItemType.GOLD_999, 0.555),
+                order(1L, Invoice.SELL, ItemType.GOLD_999, 4.0),
+                order(1L, Invoice.PURCHASE, ItemType.GOLD_999, 3.0));
+        List<String> user2 = create(2L,
+                order(2L, Invoice.SELL, ItemType.GOLD_9999, 3.0),
+                order(2L, Invoice.PURCHASE, ItemType.GOLD_9999, 1.0));
+
+        orderService.updateOrderStatus(1L, new OrderStatusUpdateDto(1L, user1.get(0), OrderStatus.PAYMENT_COMPLETED));
+        orderService.updateOrderStatus(1L, new OrderStatusUpdateDto(1L, user1.get(0), OrderStatus.SHIPPED));
+        List<String> sells = List.of(user1.get(2), user1.get(3));
+        orderService.updateOrderStatuses(1L, new OrderBatchStatusUpdateDto(1L, OrderStatus.PAYMENT_RECEIVED, sells));
+        orderService.updateOrderStatuses(1L, new OrderBatchStatusUpdateDto(1L, OrderStatus.RECEIVED, sells));
+        // 거래가 끝난 판매 주문 삭제 (settled 도 빠짐)
+        orderService.deleteOrder(1L, new OrderDeleteRequestDto(1L, user1.get(3)));
+        // 판매 주문은 실패, 구매 주문만 전환
+        orderService.updateOrderStatuses(2L, new OrderBatchStatusUpdateDto(2L, OrderStatus.PAYMENT_COMPLETED, user2));
+
+        List<String> incrementalDaily = dailyRows();
+        List<String> incrementalPositions = positionRows();
+        assertThat(incrementalPositions).contains(
+                "1|GOLD_999|4.23|0.56|1.23|0.56|3",
+                "1|GOLD_9999|2.50|0.00|0.00|0.00|1",
+                "2|GOLD_9999|1.00|3.00|0.00|0.00|2");
+
+        // 요약을 어긋나게 만든 뒤 다시 계산
+        orderPositionRepository.deleteAllInBatch();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderSummaryRepository.addDaily(1L, ItemType.GOLD_999.name(), LocalDate.now(),
+                        BigDecimal.TEN, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 1));
+
+        OrderSummaryRebuildJob.Result result = rebuildJob.rebuild();
+
+        assertThat(result.failedChunks()).isZero();
+        assertThat(dailyRows()).isEqualTo(incrementalDaily);
+        assertThat(positionRows()).isEqualTo(incrementalPositions);
+    }
+
+    @Test
+    void rebuildSplitsUsersIntoChunksAndRemovesSummariesWithoutOrders() {
+        for (long userId = 1; userId <= 3; userId++) {
+            create(userId, order(userId, Invoice.PURCHASE, ItemType.GOLD_999, userId));
+        }
+        // 주문이 모두 지워진 사용자의 남은 포지션
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                orderPositionRepository.addPosition(5L, ItemType.GOLD_999.name(),
+                        BigDecimal.ONE, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 1));
+        OrderSummaryRebuildJob job = new OrderSummaryRebuildJob(orderRepository, orderSummaryRepository,
+                orderPositionRepository, orderSummaryService, transactionManager, 2, 2, 3);
+
+        OrderSummaryRebuildJob.Result result = job.rebuild();
+
+        // 사용자 1~5 를 2명씩 : [1, 2], [3, 4], [5]
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(result.failedChunks()).isZero();
+        assertThat(positionRows()).containsExactly(
+                "1|GOLD_999|1.00|0.00|0.00|0.00|1",
+                "2|GOLD_999|2.00|0.00|0.00|0.00|1",
+                "3|GOLD_999|3.00|0.00|0.00|0.00|1");
+    }
+
+    @Test
+    void orderCreatedWhileRebuildingIsCountedOnce() throws Exception {
+        create(1L, order(1L, Invoice.PURCHASE, ItemType.GOLD_999, 1.0));
+        ExecutorService writer = Executors.newSingleThreadExecutor();
+        AtomicReference<Future<Order>> created = new AtomicReference<>();
+        AtomicBoolean writerWaited = new AtomicBoolean();
+        OrderRepository interleaving = mock(OrderRepository.class, AdditionalAnswers.delegatesTo(orderRepository));
+        // 요약 행을 지운 뒤, 집계하기 전에 처음 생기는 요약 키 (GOLD_9999, 오늘) 의 주문 등록
+        doAnswer(invocation -> {
+            if (created.get() == null) {
+                created.set(writer.submit(() ->
+                        orderService.createOrder(1L, order(1L, Invoice.PURCHASE, ItemType.GOLD_9999, 2.0))));
+                try {
+                    created.get().get(500, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    writerWaited.set(true);
+                }
+            }
+            return orderRepository.streamSummaryViewsByUserRange(invocation.getArgument(0), invocation.getArgument(1));
+        }).when(interleaving).streamSummaryViewsByUserRange(anyLong(), anyLong());
+        OrderSummaryRebuildJob job = new OrderSummaryRebuildJob(interleaving, orderSummaryRepository,
+                orderPositionRepository, orderSummaryService, transactionManager, 100, 1, 1);
+
+        try {
+            assertThat(job.rebuild().failedChunks()).isZero();
+            created.get().get(10, TimeUnit.SECONDS);
+        } finally {
+            writer.shutdownNow();
+        }
+
+        // 사용자 잠금을 기다렸다가 재계산 결과 위에 한 번만 더해짐
+        assertThat(writerWaited).isTrue();
+        assertThat(positionRows()).containsExactly(
+                "1|GOLD_999|1.00|0.00|0.00|0.00|1",
+                "1|GOLD_9999|2.00|0.00|0.00|0.00|1");
+        List<String> daily = dailyRows();
+        rebuildJob.rebuild();
+        assertThat(dailyRows()).isEqualTo(daily);
+    }
+
+    private List<String> create(Long userId, OrderRegisterRequestDto... requests) {
+        return orderService.createOrders(userId, List.of(requests)).stream()
+                .map(OrderRegisterResultDto::getOrderId)
+                .toList();
+    }
+
+    private static OrderRegisterRequestDto order(Long userId, Invoice invoice, ItemType itemType, double quantity) {
+        return new OrderRegisterRequestDto(userId, invoice, itemType, quantity, "Seoul");
+    }
+
+    private List<String> dailyRows() {
+        return orderSummaryRepository.findAll().stream()
+                .map(row -> row(row.getUserId() + "|" + row.getItemType() + "|" + row.getTradeDate(),
+                        row.getPurchaseQuantity(), row.getSellQuantity(),
+                        row.getSettledPurchaseQuantity(), row.getSettledSellQuantity(), row.getOrderCount()))
+                .sorted()
+                .toList();
+    }
+
+    private List<String> positionRows() {
+        return orderPositionRepository.findAll().stream()
+                .map(row -> row(row.getUserId() + "|" + row.getItemType(),
+                        row.getPurchaseQuantity(), row.getSellQuantity(),
+                        row.getSettledPurchaseQuantity(), row.getSettledSellQuantity(), row.getOrderCount()))
+                .sorted()
+                .toList();
+    }
+
+    private static String row(String key, BigDecimal purchase, BigDecimal sell,
+                              BigDecimal settledPurchase, BigDecimal settledSell, Long orderCount) {
+        return key + "|" + scaled(purchase) + "|" + scaled(sell) + "|"
+                + scaled(settledPurchase) + "|" + scaled(settledSell) + "|" + orderCount;
+    }
+
+    private static String scaled(BigDecimal value) {
+        return value.setScale(2, RoundingMode.UNNECESSARY).toPlainString();
+    }
+}
@@ -0,0 +1,148 @@
+package backend.trade.order.watch;
+
+import backend.trade.order.model.OrderStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OrderWatchHubTest {
+
+    private final OrderWatchHub hub = new OrderWatchHub(1, 4, 60_000, 1);
+
+    @AfterEach
+    void tearDown() {
+        hub.shutdown();
+    }
+
+    @Test
+    void slowWatcherReceivesOnlyLatestStatusPerOrder() throws Exception {
+        TestWatcher watcher = hub.register(new TestWatcher(hub, 1L, List.of(), 1));
+        LocalDateTime now = LocalDateTime.now();
+
+        hub.onStatusChanged(new OrderStatusChangedEvent("ORDER-1", 1L, OrderStatus.PAYMENT_COMPLETED, now));
+        hub.onStatusChanged(new OrderStatusChangedEvent("ORDER-1", 1L, OrderStatus.SHIPPED, now.plusSeconds(1)));
+        hub.onStatusChanged(new OrderStatusChangedEvent("ORDER-2", 2L, OrderStatus.SHIPPED, now));
+
+        watcher.ready = true;
+        watcher.schedule();
+
+        assertTrue(watcher.latch.await(5, TimeUnit.SECONDS));
+        assertEquals(1, watcher.received.size());
+        assertEquals(OrderStatus.SHIPPED, watcher.received.get(0).status());
+    }
+
+    @Test
+    void closedWatcherIsUnregistered() {
+        TestWatcher watcher = hub.register(new TestWatcher(hub, 1L, List.of("ORDER-1"), 1));
+        assertEquals(1, hub.getWatcherCount());
+
+        watcher.close();
+        assertEquals(0, hub.getWatcherCount());
+    }
+
+    @Test
+    void stalledSseClientDoesNotBlockDispatcherAndReceivesLatestStatusPerOrder() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        BlockingEmitter emitter = new BlockingEmitter(release, 4);
+        SseOrderWatcher sse = hub.register(new SseOrderWatcher(hub, 1L, List.of(), emitter));
+        TestWatcher other = hub.register(new TestWatcher(hub, 1L, List.of(), 3));
+        other.ready = true;
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            hub.onStatusChanged(new OrderStatusChangedEvent("ORDER-0", 1L, OrderStatus.PAYMENT_COMPLETED, now));
+            assertTrue(emitter.writing.await(5, TimeUnit.SECONDS));
+            // 첫 전송이 멈춘 동안에도 dispatcher 는 다른 구독자에게 계속 전달
+            hub.onStatusChanged(new OrderStatusChangedEvent("ORDER-1", 1L, OrderStatus.PAYMENT_COMPLETED, now));
+            hub.onStatusChanged(new OrderStatusChangedEvent("ORDER-1", 1L, OrderStatus.SHIPPED, now.plusSeconds(1)));
+            hub.onStatusChanged(new OrderStatusChangedEvent("ORDER-0", 1L, OrderStatus.SHIPPED, now.plusSeconds(1)));
+            hub.onStatusChanged(new OrderStatusChangedEvent("ORDER-2", 1L, OrderStatus.PAYMENT_COMPLETED, now));
+            hub.onStatusChanged(new OrderStatusChangedEvent("ORDER-2", 1L, OrderStatus.SHIPPED, now.plusSeconds(1)));
+            assertTrue(other.latch.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+
+        // 멈춘 동안의 상태는 주문별 최신 상태 하나씩만, 연결은 유지
+        assertTrue(emitter.sent.await(5, TimeUnit.SECONDS));
+        assertFalse(sse.isClosed());
+        assertEquals(OrderStatus.PAYMENT_COMPLETED, emitter.received.get(0).status());
+        Map<String, OrderStatus> latest = new HashMap<>();
+        for (OrderStatusChangedEvent event : emitter.received.subList(1, emitter.received.size())) {
+            assertNull(latest.put(event.orderId(), event.status()));
+        }
+        assertEquals(Map.of("ORDER-0", OrderStatus.SHIPPED, "ORDER-1", OrderStatus.SHIPPED, "ORDER-2", OrderStatus.SHIPPED), latest);
+    }
+
+    /**
+     * 첫 send 에서 release 될 때까지 멈추는 (느린 클라이언트) emitter
+     */
+    private static class BlockingEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch sent;
+        private final List<OrderStatusChangedEvent> received = new CopyOnWriteArrayList<>();
+
+        BlockingEmitter(CountDownLatch release, int expected) {
+            this.release = release;
+            this.sent = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+            builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(OrderStatusChangedEvent.class::isInstance)
+                    .map(OrderStatusChangedEvent.class::cast)
+                    .forEach(received::add);
+            sent.countDown();
+        }
+    }
+
+    private static class TestWatcher extends OrderWatcher {
+
+        private final List<OrderStatusChangedEvent> received = new CopyOnWriteArrayList<>();
+        private final CountDownLatch latch;
+        private volatile boolean ready;
+
+        TestWatcher(OrderWatchHub hub, Long userId, List<String> orderIds, int expected) {
+            super(hub, userId, orderIds);
+            this.latch = new CountDownLatch(expected);
+        }
+
+        @Override
+        protected boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        protected void send(OrderStatusChangedEvent event) {
+            received.add(event);
+            latch.countDown();
+        }
+    }
+}